@@ -1,6 +1,8 @@
 package com.openapi.converter.config;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -26,4 +28,53 @@ public class AppProperties {
      */
     @NotEmpty(message = "Validation rules location!")
     private String validationRulesLocation;
+
+    /**
+     * Open api reader properties
+     */
+    @Valid
+    @NotNull
+    private OpenApiReaderProperties openApiReader = new OpenApiReaderProperties();
+
+    /**
+     * Web client connection pool properties
+     */
+    @Valid
+    @NotNull
+    private WebClientProperties webClient = new WebClientProperties();
+
+    /**
+     * Open api docs cache properties
+     */
+    @Valid
+    @NotNull
+    private SpecCacheProperties specCache = new SpecCacheProperties();
+
+    /**
+     * Uploaded open api files results cache properties
+     */
+    @Valid
+    @NotNull
+    private UploadCacheProperties uploadCache = new UploadCacheProperties();
+
+    /**
+     * Uploaded open api files properties
+     */
+    @Valid
+    @NotNull
+    private UploadProperties upload = new UploadProperties();
+
+    /**
+     * Open api validation properties
+     */
+    @Valid
+    @NotNull
+    private ValidationProperties validation = new ValidationProperties();
+
+    /**
+     * Open api report properties
+     */
+    @Valid
+    @NotNull
+    private ReportProperties report = new ReportProperties();
 }
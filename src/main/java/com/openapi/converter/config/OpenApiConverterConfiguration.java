@@ -3,20 +3,39 @@ package com.openapi.converter.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.servlet.MultipartConfigElement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * App configuration class.
  *
  * @author Roman Batygin
  */
+@Slf4j
 @Configuration
 @EnableConfigurationProperties(AppProperties.class)
 public class OpenApiConverterConfiguration {
 
+    private static final String OPEN_API_READER_THREAD_NAME_PREFIX = "open-api-reader-";
+    private static final String OPEN_API_CONNECTION_PROVIDER_NAME = "open-api-reader";
+    private static final String OPEN_API_VALIDATION_THREAD_NAME_PREFIX = "open-api-validation-";
+    private static final String OPEN_API_BATCH_VALIDATION_THREAD_NAME_PREFIX = "open-api-batch-validation-";
+    private static final String OPEN_API_REPORT_THREAD_NAME_PREFIX = "open-api-report-";
+
     /**
      * Creates object mapper bean for examples serialization.
      *
@@ -32,13 +51,141 @@ public class OpenApiConverterConfiguration {
     /**
      * Creates object mapper bean for open api deserialization.
      *
+     * @param appProperties - app properties
      * @return {@link ObjectMapper} bean
      */
     @Primary
     @Bean
-    public ObjectMapper openApiObjectMapper() {
-        var objectMapper = new ObjectMapper();
+    public ObjectMapper openApiObjectMapper(AppProperties appProperties) {
+        return configureOpenApiObjectMapper(new ObjectMapper(), appProperties);
+    }
+
+    /**
+     * Creates object mapper bean for open api deserialization from yaml.
+     *
+     * @param appProperties - app properties
+     * @return {@link ObjectMapper} bean
+     */
+    @Bean
+    public ObjectMapper openApiYamlObjectMapper(AppProperties appProperties) {
+        return configureOpenApiObjectMapper(new ObjectMapper(new YAMLFactory()), appProperties);
+    }
+
+    /**
+     * Creates executor bean for concurrent open api docs fetching.
+     *
+     * @param appProperties - app properties
+     * @return {@link ThreadPoolTaskExecutor} bean
+     */
+    @Bean
+    public ThreadPoolTaskExecutor openApiReaderExecutor(AppProperties appProperties) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getOpenApiReader().getMaxConcurrency());
+        executor.setMaxPoolSize(appProperties.getOpenApiReader().getMaxConcurrency());
+        executor.setThreadNamePrefix(OPEN_API_READER_THREAD_NAME_PREFIX);
+        return executor;
+    }
+
+    /**
+     * Creates shared connection pool bean for open api docs fetching.
+     *
+     * @param appProperties - app properties
+     * @return {@link ConnectionProvider} bean
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openApiConnectionProvider(AppProperties appProperties) {
+        var webClientProperties = appProperties.getWebClient();
+        return ConnectionProvider.builder(OPEN_API_CONNECTION_PROVIDER_NAME)
+                .maxConnections(webClientProperties.getMaxConnections())
+                .maxIdleTime(webClientProperties.getMaxIdleTime())
+                .pendingAcquireMaxCount(webClientProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(webClientProperties.getPendingAcquireTimeout())
+                .evictInBackground(webClientProperties.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Creates fork join pool bean for parallel open api validation.
+     *
+     * @param appProperties - app properties
+     * @return {@link ForkJoinPool} bean
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool validationForkJoinPool(AppProperties appProperties) {
+        return new ForkJoinPool(appProperties.getValidation().getParallelism(), pool -> {
+            var workerThread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            workerThread.setName(OPEN_API_VALIDATION_THREAD_NAME_PREFIX + workerThread.getPoolIndex());
+            return workerThread;
+        }, null, false);
+    }
+
+    /**
+     * Creates fork join pool bean for parallel open api report build.
+     *
+     * @param appProperties - app properties
+     * @return {@link ForkJoinPool} bean
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool reportForkJoinPool(AppProperties appProperties) {
+        return new ForkJoinPool(appProperties.getReport().getParallelism(), pool -> {
+            var workerThread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            workerThread.setName(OPEN_API_REPORT_THREAD_NAME_PREFIX + workerThread.getPoolIndex());
+            return workerThread;
+        }, null, false);
+    }
+
+    /**
+     * Creates executor bean for concurrent open api docs validation in batch mode.
+     *
+     * @param appProperties - app properties
+     * @return {@link ThreadPoolTaskExecutor} bean
+     */
+    @Bean
+    public ThreadPoolTaskExecutor validationBatchExecutor(AppProperties appProperties) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getValidation().getBatchConcurrency());
+        executor.setMaxPoolSize(appProperties.getValidation().getBatchConcurrency());
+        executor.setThreadNamePrefix(OPEN_API_BATCH_VALIDATION_THREAD_NAME_PREFIX);
+        return executor;
+    }
+
+    /**
+     * Creates multipart config bean. Uploaded files larger than memory threshold are written
+     * to spill directory instead of being buffered in heap.
+     *
+     * @param appProperties - app properties
+     * @return {@link MultipartConfigElement} bean
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(AppProperties appProperties) {
+        var uploadProperties = appProperties.getUpload();
+        createDirectory(uploadProperties.getSpillDirectory());
+        var multipartConfigFactory = new MultipartConfigFactory();
+        multipartConfigFactory.setLocation(uploadProperties.getSpillDirectory());
+        multipartConfigFactory.setFileSizeThreshold(uploadProperties.getMemoryThreshold());
+        multipartConfigFactory.setMaxFileSize(uploadProperties.getMaxFileSize());
+        multipartConfigFactory.setMaxRequestSize(uploadProperties.getMaxRequestSize());
+        return multipartConfigFactory.createMultipartConfig();
+    }
+
+    private ObjectMapper configureOpenApiObjectMapper(ObjectMapper objectMapper, AppProperties appProperties) {
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (appProperties.getOpenApiReader().isFastParseEnabled()) {
+            //Replaces reflective setters and constructors calls with generated accessors
+            objectMapper.registerModule(new BlackbirdModule());
+            log.info("Fast parse mode has been enabled for open api object mapper [{}]",
+                    objectMapper.getFactory().getFormatName());
+        }
         return objectMapper;
     }
+
+    private void createDirectory(String directory) {
+        try {
+            Files.createDirectories(Path.of(directory));
+        } catch (IOException ex) {
+            log.error("Error while create directory [{}]: {}", directory, ex.getMessage());
+            throw new IllegalStateException(ex);
+        }
+    }
 }
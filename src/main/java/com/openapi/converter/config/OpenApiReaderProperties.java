@@ -0,0 +1,52 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Open api reader properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class OpenApiReaderProperties {
+
+    private static final long DEFAULT_MAX_BODY_SIZE_MB = 20L;
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+    private static final int DEFAULT_MAX_CONCURRENCY_PER_HOST = 4;
+
+    /**
+     * Max. size of open api docs fetched from external resource and max. decoded size of compressed open api docs
+     */
+    @NotNull(message = "Max. open api docs body size must be specified!")
+    private DataSize maxBodySize = DataSize.ofMegabytes(DEFAULT_MAX_BODY_SIZE_MB);
+
+    /**
+     * Fetches open api docs from several external resources concurrently?
+     */
+    private boolean concurrentFetchEnabled = true;
+
+    /**
+     * Max. open api docs fetched concurrently
+     */
+    @Min(value = 1, message = "Max. concurrency must be positive!")
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Max. open api docs fetched concurrently from the same host by all requests
+     */
+    @Min(value = 1, message = "Max. concurrency per host must be positive!")
+    private int maxConcurrencyPerHost = DEFAULT_MAX_CONCURRENCY_PER_HOST;
+
+    /**
+     * Uses generated accessors instead of reflection for open api docs deserialization?
+     */
+    private boolean fastParseEnabled;
+
+    /**
+     * Shares equal strings and identical leaf schemas of parsed open api docs?
+     */
+    private boolean canonicalizationEnabled = true;
+}
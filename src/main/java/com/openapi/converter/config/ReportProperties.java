@@ -0,0 +1,57 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Open api report properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class ReportProperties {
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 200;
+    private static final long DEFAULT_SCHEMA_REPORT_CACHE_MAX_SIZE = 10000L;
+    private static final int DEFAULT_EXAMPLE_MAX_LENGTH = 100000;
+
+    /**
+     * Builds methods, components and security schemes reports in parallel?
+     */
+    private boolean parallelEnabled = true;
+
+    /**
+     * Parallel report build pool size
+     */
+    @Min(value = 1, message = "Report parallelism must be positive!")
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Min. number of paths and component schemas to enable parallel report build
+     */
+    @Min(value = 1, message = "Parallel report threshold must be positive!")
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Shares schema reports of schemas with equal report values across report builds? Schema reports are always
+     * shared within single report build
+     */
+    private boolean schemaReportCacheEnabled;
+
+    /**
+     * Max. number of schema reports shared across report builds
+     */
+    @Min(value = 1, message = "Schema reports cache max. size must be positive!")
+    private long schemaReportCacheMaxSize = DEFAULT_SCHEMA_REPORT_CACHE_MAX_SIZE;
+
+    /**
+     * Renders report templates through views reading open api model directly instead of building report model?
+     */
+    private boolean openApiViewEnabled;
+
+    /**
+     * Max. length of example json in report, longer examples are truncated
+     */
+    @Min(value = 1, message = "Example max. length must be positive!")
+    private int exampleMaxLength = DEFAULT_EXAMPLE_MAX_LENGTH;
+}
@@ -0,0 +1,47 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Open api docs cache properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class SpecCacheProperties {
+
+    private static final long DEFAULT_MAX_MEMORY_SIZE_MB = 64L;
+    private static final long DEFAULT_MAX_DISK_SIZE_MB = 512L;
+
+    /**
+     * Is open api docs cache enabled?
+     */
+    private boolean enabled = true;
+
+    /**
+     * Max. total size of open api models kept in memory. Parsed model size is estimated as four times
+     * raw docs size
+     */
+    @NotNull(message = "Max. memory size must be specified!")
+    private DataSize maxMemorySize = DataSize.ofMegabytes(DEFAULT_MAX_MEMORY_SIZE_MB);
+
+    /**
+     * Is disk cache tier enabled?
+     */
+    private boolean diskEnabled;
+
+    /**
+     * Disk cache directory
+     */
+    @NotEmpty(message = "Disk cache directory must be specified!")
+    private String diskDirectory = System.getProperty("java.io.tmpdir") + "/open-api-converter/spec-cache";
+
+    /**
+     * Max. total size of open api docs kept on disk
+     */
+    @NotNull(message = "Max. disk size must be specified!")
+    private DataSize maxDiskSize = DataSize.ofMegabytes(DEFAULT_MAX_DISK_SIZE_MB);
+}
@@ -0,0 +1,34 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Uploaded open api files results cache properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class UploadCacheProperties {
+
+    private static final long DEFAULT_MAX_SIZE_MB = 256L;
+    private static final long DEFAULT_MAX_REPORT_SIZE_MB = 16L;
+
+    /**
+     * Is uploaded open api files results cache enabled?
+     */
+    private boolean enabled = true;
+
+    /**
+     * Max. total size of cached uploaded files and rendered reports
+     */
+    @NotNull(message = "Max. upload cache size must be specified!")
+    private DataSize maxSize = DataSize.ofMegabytes(DEFAULT_MAX_SIZE_MB);
+
+    /**
+     * Max. size of rendered report to be cached. Larger reports are written to response only
+     */
+    @NotNull(message = "Max. cached report size must be specified!")
+    private DataSize maxReportSize = DataSize.ofMegabytes(DEFAULT_MAX_REPORT_SIZE_MB);
+}
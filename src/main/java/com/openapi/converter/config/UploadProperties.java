@@ -0,0 +1,44 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Uploaded open api files properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class UploadProperties {
+
+    private static final long DEFAULT_MEMORY_THRESHOLD_MB = 1L;
+    private static final long DEFAULT_MAX_FILE_SIZE_MB = 100L;
+    private static final long DEFAULT_MAX_REQUEST_SIZE_MB = 100L;
+
+    /**
+     * Uploaded files larger than threshold are written to spill directory by servlet container and parsed
+     * as a stream from it
+     */
+    @NotNull(message = "Upload memory threshold must be specified!")
+    private DataSize memoryThreshold = DataSize.ofMegabytes(DEFAULT_MEMORY_THRESHOLD_MB);
+
+    /**
+     * Max. uploaded file size
+     */
+    @NotNull(message = "Max. upload file size must be specified!")
+    private DataSize maxFileSize = DataSize.ofMegabytes(DEFAULT_MAX_FILE_SIZE_MB);
+
+    /**
+     * Max. multipart request size
+     */
+    @NotNull(message = "Max. upload request size must be specified!")
+    private DataSize maxRequestSize = DataSize.ofMegabytes(DEFAULT_MAX_REQUEST_SIZE_MB);
+
+    /**
+     * Directory for uploaded files spilled to disk
+     */
+    @NotEmpty(message = "Upload spill directory must be specified!")
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/open-api-converter/uploads";
+}
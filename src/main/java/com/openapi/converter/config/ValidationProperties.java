@@ -0,0 +1,102 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Open api validation properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class ValidationProperties {
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 200;
+    private static final int DEFAULT_BATCH_CONCURRENCY = 4;
+    private static final int DEFAULT_DETAIL_LOG_MAX_RESULTS = 100;
+    private static final long DEFAULT_FRAGMENT_CACHE_MAX_SIZE = 100000L;
+    private static final long DEFAULT_STREAMING_BUCKET_MEMORY_LIMIT_MB = 4L;
+    private static final long DEFAULT_MAX_DURATION_SECONDS = 60L;
+    private static final long DEFAULT_MAX_VISITED_NODES = 5000000L;
+    private static final long DEFAULT_MAX_RESULTS = 1000000L;
+
+    /**
+     * Validates paths and component schemas in parallel?
+     */
+    private boolean parallelEnabled = true;
+
+    /**
+     * Parallel validation pool size
+     */
+    @Min(value = 1, message = "Validation parallelism must be positive!")
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Min. number of validated fragments (api info, paths and component schemas) to enable parallel validation
+     */
+    @Min(value = 1, message = "Parallel validation threshold must be positive!")
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Max. number of open api docs validated concurrently in batch mode
+     */
+    @Min(value = 1, message = "Batch validation concurrency must be positive!")
+    private int batchConcurrency = DEFAULT_BATCH_CONCURRENCY;
+
+    /**
+     * Max. number of validation results logged with debug level
+     */
+    @Min(value = 0, message = "Validation results detail log max. size must not be negative!")
+    private int detailLogMaxResults = DEFAULT_DETAIL_LOG_MAX_RESULTS;
+
+    /**
+     * Validates only paths and component schemas changed since previously validated open api versions?
+     */
+    private boolean incrementalEnabled;
+
+    /**
+     * Max. number of validated fragments (api info, paths and component schemas) kept in cache
+     */
+    @Min(value = 1, message = "Validation fragments cache max. size must be positive!")
+    private long fragmentCacheMaxSize = DEFAULT_FRAGMENT_CACHE_MAX_SIZE;
+
+    /**
+     * Streams validation results into csv report by severity buckets instead of building results list?
+     */
+    private boolean streamingEnabled;
+
+    /**
+     * Max. size of severity bucket kept in memory, larger buckets are spilled to disk
+     */
+    @NotNull(message = "Max. severity bucket memory size must be specified!")
+    private DataSize streamingBucketMemoryLimit = DataSize.ofMegabytes(DEFAULT_STREAMING_BUCKET_MEMORY_LIMIT_MB);
+
+    /**
+     * Directory for severity buckets spilled to disk
+     */
+    @NotEmpty(message = "Validation spill directory must be specified!")
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/open-api-converter/validation";
+
+    /**
+     * Max. duration of single open api validation, validation is stopped with partial results when exceeded
+     */
+    @NotNull(message = "Max. validation duration must be specified!")
+    private Duration maxDuration = Duration.ofSeconds(DEFAULT_MAX_DURATION_SECONDS);
+
+    /**
+     * Max. number of nodes visited during single open api validation
+     */
+    @Min(value = 1, message = "Max. number of visited nodes must be positive!")
+    private long maxVisitedNodes = DEFAULT_MAX_VISITED_NODES;
+
+    /**
+     * Max. number of validation results of single open api
+     */
+    @Min(value = 1, message = "Max. number of validation results must be positive!")
+    private long maxResults = DEFAULT_MAX_RESULTS;
+}
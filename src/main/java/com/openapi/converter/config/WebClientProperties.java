@@ -0,0 +1,52 @@
+package com.openapi.converter.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Web client connection pool properties.
+ *
+ * @author Roman Batygin
+ */
+@Data
+public class WebClientProperties {
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 50;
+    private static final int DEFAULT_PENDING_ACQUIRE_MAX_COUNT = 200;
+    private static final long DEFAULT_MAX_IDLE_TIME_SECONDS = 30L;
+    private static final long DEFAULT_PENDING_ACQUIRE_TIMEOUT_SECONDS = 45L;
+    private static final long DEFAULT_EVICTION_INTERVAL_SECONDS = 60L;
+
+    /**
+     * Max. connections in pool
+     */
+    @Min(value = 1, message = "Max. connections must be positive!")
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * Max. time after which idle connection is evicted from pool
+     */
+    @NotNull(message = "Max. idle time must be specified!")
+    private Duration maxIdleTime = Duration.ofSeconds(DEFAULT_MAX_IDLE_TIME_SECONDS);
+
+    /**
+     * Max. requests waiting for connection acquisition
+     */
+    @Min(value = 1, message = "Pending acquire max. count must be positive!")
+    private int pendingAcquireMaxCount = DEFAULT_PENDING_ACQUIRE_MAX_COUNT;
+
+    /**
+     * Max. time to wait for connection acquisition
+     */
+    @NotNull(message = "Pending acquire timeout must be specified!")
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(DEFAULT_PENDING_ACQUIRE_TIMEOUT_SECONDS);
+
+    /**
+     * Interval of background idle connections eviction
+     */
+    @NotNull(message = "Eviction interval must be specified!")
+    private Duration evictionInterval = Duration.ofSeconds(DEFAULT_EVICTION_INTERVAL_SECONDS);
+}
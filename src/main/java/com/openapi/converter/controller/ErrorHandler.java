@@ -14,6 +14,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
@@ -90,4 +91,17 @@ public class ErrorHandler {
         var responseDto = buildErrorResponse(ErrorCode.VALIDATION_ERROR, validationErrors);
         return ResponseEntity.badRequest().body(responseDto);
     }
+
+    /**
+     * Handles max. upload size exceeded error.
+     *
+     * @param ex - max. upload size exceeded exception
+     * @return response entity
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ResponseDto<Void>> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
+        log.error("Got max. upload size exceeded error: {}", ex.getMessage());
+        var responseDto = buildErrorResponse(ErrorCode.MAX_UPLOAD_SIZE_EXCEEDED, ex.getMessage());
+        return ResponseEntity.badRequest().body(responseDto);
+    }
 }
@@ -3,7 +3,8 @@ package com.openapi.converter.controller;
 import com.openapi.converter.dto.OpenApiReportRequestDto;
 import com.openapi.converter.service.OpenApiReader;
 import com.openapi.converter.service.OpenApiReportGenerator;
-import com.openapi.converter.service.OpenApiReportProcessor;
+import com.openapi.converter.service.OpenApiUploadCache;
+import com.openapi.converter.util.Utils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,8 +18,6 @@ import jakarta.validation.constraints.Size;
 import lombok.Cleanup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -28,6 +27,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -52,30 +53,31 @@ public class OpenApiReportController {
     private static final String OPEN_API_REPORTS_ZIP = "open-api-reports.zip";
 
     private final OpenApiReader openApiReader;
-    private final OpenApiReportProcessor openApiReportProcessor;
+    private final OpenApiUploadCache openApiUploadCache;
     private final OpenApiReportGenerator openApiReportGenerator;
 
     /**
      * Generates Open API report in adoc format.
      *
-     * @param openApiJson - open api json file
+     * @param openApiJson - open api json or yaml file
      * @throws Exception in case of error
      */
     @Operation(description = "Generates Open API report in adoc format",
             summary = "Generates Open API report in adoc format")
     @PostMapping(value = "/adoc", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public void generateAsciiDocReport(
-            @Parameter(description = "Open api json file (swagger.json)") @RequestParam MultipartFile openApiJson,
+            @Parameter(description = "Open api json or yaml file, optionally gzip compressed " +
+                    "(swagger.json, swagger.yaml, swagger.json.gz)") @RequestParam MultipartFile openApiJson,
             HttpServletResponse httpServletResponse) throws Exception {
         log.info("Starting to generate adoc report for file [{}]", openApiJson.getOriginalFilename());
-        var openApi = openApiReader.read(openApiJson);
-        var reportString = openApiReportProcessor.processAsciiDocReport(openApi);
-        var fileBaseName = FilenameUtils.getBaseName(openApiJson.getOriginalFilename());
+        var asciiDocReportWriter = openApiUploadCache.getAsciiDocReport(openApiJson);
+        var fileBaseName = Utils.getOpenApiFileBaseName(openApiJson.getOriginalFilename());
         String reportName = String.format(ASCII_DOC_REPORT_NAME, fileBaseName);
         @Cleanup var outputStream = httpServletResponse.getOutputStream();
         setContentDisposition(httpServletResponse, reportName);
-        IOUtils.write(reportString, outputStream, StandardCharsets.UTF_8);
-        outputStream.flush();
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        asciiDocReportWriter.write(writer);
+        writer.flush();
         log.info("Open api report file [{}] has been generated", reportName);
     }
 
@@ -1,24 +1,42 @@
 package com.openapi.converter.controller;
 
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.OpenApiReportRequestDto;
+import com.openapi.converter.report.OpenApiBatchValidationResultsCsvReportGenerator;
 import com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator;
-import com.openapi.converter.service.OpenApiReader;
+import com.openapi.converter.report.OpenApiValidationResultsCsvStreamingReportGenerator;
+import com.openapi.converter.report.ReportGenerator;
+import com.openapi.converter.service.OpenApiBatchValidationService;
+import com.openapi.converter.service.OpenApiUploadCache;
 import com.openapi.converter.service.OpenApiValidationService;
+import com.openapi.converter.util.Utils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Cleanup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.List;
+
+import static com.openapi.converter.controller.docs.ApiExamples.OPEN_API_REPORTS_REQUEST_EXAMPLE;
+import static com.openapi.converter.dto.Constraints.OPEN_API_VALIDATION_REQUESTS_MAX_SIZE;
 import static com.openapi.converter.util.ResponseHelper.setContentDisposition;
 
 /**
@@ -35,33 +53,99 @@ import static com.openapi.converter.util.ResponseHelper.setContentDisposition;
 public class OpenApiValidationController {
 
     private static final String VALIDATION_RESULTS_REPORT_NAME = "%s-validation-results.zip";
+    private static final String BATCH_VALIDATION_RESULTS_REPORT_NAME = "open-api-validation-results.zip";
 
-    private final OpenApiReader openApiReader;
+    private final AppProperties appProperties;
+    private final OpenApiUploadCache openApiUploadCache;
     private final OpenApiValidationService openApiValidationService;
+    private final OpenApiBatchValidationService openApiBatchValidationService;
+    private final OpenApiBatchValidationResultsCsvReportGenerator openApiBatchValidationResultsCsvReportGenerator;
     private final OpenApiValidationResultsCsvReportGenerator openApiValidationResultsCsvReportGenerator;
+    private final OpenApiValidationResultsCsvStreamingReportGenerator
+            openApiValidationResultsCsvStreamingReportGenerator;
 
     /**
      * Generates Open API validation results report archive.
      *
-     * @param openApiJson - open api json file
+     * @param openApiJson - open api json or yaml file
      * @throws Exception in case of error
      */
     @Operation(description = "Generates Open API validation results report archive",
             summary = "Generates Open API validation results report archive")
     @PostMapping(value = "/validation", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public void generateValidationResultsReport(
-            @Parameter(description = "Open api json file (swagger.json)") @RequestParam MultipartFile openApiJson,
+            @Parameter(description = "Open api json or yaml file, optionally gzip compressed " +
+                    "(swagger.json, swagger.yaml, swagger.json.gz)") @RequestParam MultipartFile openApiJson,
             HttpServletResponse httpServletResponse) throws Exception {
         log.info("Starting to generate open api validation results report for file [{}]",
                 openApiJson.getOriginalFilename());
-        var openApi = openApiReader.read(openApiJson);
-        var validationResults = openApiValidationService.validate(openApi);
-        var fileBaseName = FilenameUtils.getBaseName(openApiJson.getOriginalFilename());
+        var fileBaseName = Utils.getOpenApiFileBaseName(openApiJson.getOriginalFilename());
         String reportName = String.format(VALIDATION_RESULTS_REPORT_NAME, fileBaseName);
+        if (appProperties.getValidation().isStreamingEnabled()) {
+            var openApi = openApiUploadCache.getOpenApi(openApiJson);
+            openApiValidationService.checkOpenApi(openApi);
+            writeReport(httpServletResponse, reportName, openApiValidationResultsCsvStreamingReportGenerator,
+                    openApi);
+        } else {
+            var validationResults = openApiUploadCache.getValidationResults(openApiJson);
+            writeReport(httpServletResponse, reportName, openApiValidationResultsCsvReportGenerator,
+                    validationResults);
+        }
+    }
+
+    /**
+     * Generates validation results report archive for several uploaded Open API files.
+     *
+     * @param openApiFiles - open api files or zip archives of open api files
+     * @throws Exception in case of error
+     */
+    @Operation(description = "Generates validation results report archive for several uploaded Open API files",
+            summary = "Generates validation results report archive for several uploaded Open API files")
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void generateBatchValidationResultsReport(
+            @Parameter(description = "Open api json or yaml files, optionally gzip compressed, " +
+                    "or zip archives of such files")
+            @RequestParam @NotEmpty @Size(max = OPEN_API_VALIDATION_REQUESTS_MAX_SIZE)
+            List<MultipartFile> openApiFiles,
+            HttpServletResponse httpServletResponse) throws Exception {
+        log.info("Request to generate validation results report archive for [{}] files", openApiFiles.size());
+        var batchValidationResults = openApiBatchValidationService.validateFiles(openApiFiles);
+        writeReport(httpServletResponse, BATCH_VALIDATION_RESULTS_REPORT_NAME,
+                openApiBatchValidationResultsCsvReportGenerator, batchValidationResults);
+    }
+
+    /**
+     * Generates validation results report archive for several Open API resources.
+     *
+     * @param openApiReportRequests - open api report requests
+     * @throws Exception in case of error
+     */
+    @Operation(description = "Generates validation results report archive for several Open API resources",
+            summary = "Generates validation results report archive for several Open API resources",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+                    @Content(examples = {
+                            @ExampleObject(value = OPEN_API_REPORTS_REQUEST_EXAMPLE)
+                    })
+            })
+    )
+    @PostMapping(value = "/batch/urls")
+    public void generateBatchValidationResultsReportForResources(
+            @RequestBody @NotEmpty @Size(max = OPEN_API_VALIDATION_REQUESTS_MAX_SIZE)
+            @Valid List<@NotNull OpenApiReportRequestDto> openApiReportRequests,
+            HttpServletResponse httpServletResponse) throws Exception {
+        log.info("Request to generate validation results report archive for [{}] resources",
+                openApiReportRequests.size());
+        var batchValidationResults = openApiBatchValidationService.validateResources(openApiReportRequests);
+        writeReport(httpServletResponse, BATCH_VALIDATION_RESULTS_REPORT_NAME,
+                openApiBatchValidationResultsCsvReportGenerator, batchValidationResults);
+    }
+
+    private <T> void writeReport(HttpServletResponse httpServletResponse, String reportName,
+                                 ReportGenerator<T> reportGenerator, T data) throws IOException {
         @Cleanup var outputStream = httpServletResponse.getOutputStream();
         setContentDisposition(httpServletResponse, reportName);
         log.info("Starting to generate validation results report [{}] archive", reportName);
-        openApiValidationResultsCsvReportGenerator.generateReport(validationResults, outputStream);
+        reportGenerator.generateReport(data, outputStream);
         outputStream.flush();
         log.info("Open api validation results report [{}] archive has been generated", reportName);
     }
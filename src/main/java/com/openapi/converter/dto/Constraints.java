@@ -17,4 +17,6 @@ public class Constraints {
     public static final int STRING_MAX_LENGTH_255 = 255;
 
     public static final int OPEN_API_REQUESTS_MAX_SIZE = 50;
+
+    public static final int OPEN_API_VALIDATION_REQUESTS_MAX_SIZE = 500;
 }
@@ -35,5 +35,10 @@ public enum ErrorCode {
     /**
      * Validation error
      */
-    VALIDATION_ERROR
+    VALIDATION_ERROR,
+
+    /**
+     * Max. upload size exceeded
+     */
+    MAX_UPLOAD_SIZE_EXCEEDED
 }
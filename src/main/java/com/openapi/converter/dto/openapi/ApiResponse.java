@@ -25,5 +25,5 @@ public class ApiResponse {
      * Dto model reference
      */
     @JsonProperty("$ref")
-    private String $ref;
+    private String ref;
 }
@@ -0,0 +1,56 @@
+package com.openapi.converter.model.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cached open api docs model.
+ *
+ * @author Roman Batygin
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedOpenApiSpec {
+
+    /**
+     * Open api resource url
+     */
+    private String url;
+    /**
+     * Entity tag validator
+     */
+    private String eTag;
+    /**
+     * Last modified validator
+     */
+    private String lastModified;
+    /**
+     * Raw open api docs size in bytes
+     */
+    private int size;
+    /**
+     * Is open api docs in yaml format?
+     */
+    private boolean yaml;
+    /**
+     * Parsed open api model
+     */
+    @JsonIgnore
+    private OpenAPI openApi;
+
+    /**
+     * Checks that open api docs can be revalidated with conditional request.
+     *
+     * @return {@code true} if entity tag or last modified validator is present, {@code false} otherwise
+     */
+    @JsonIgnore
+    public boolean hasValidators() {
+        return eTag != null || lastModified != null;
+    }
+}
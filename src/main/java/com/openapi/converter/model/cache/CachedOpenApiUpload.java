@@ -0,0 +1,68 @@
+package com.openapi.converter.model.cache;
+
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.util.Utils;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Cached results for uploaded open api file. Cached results are immutable, updated results are put into cache
+ * as a new instance.
+ *
+ * @author Roman Batygin
+ */
+@Data
+@Builder(toBuilder = true)
+public class CachedOpenApiUpload {
+
+    /**
+     * Approx. validation result size in compact results container, including location strings
+     */
+    private static final long VALIDATION_RESULT_SIZE_BYTES = 64L;
+
+    /**
+     * Uploaded file content hash
+     */
+    private final String contentHash;
+    /**
+     * Uploaded file size in bytes
+     */
+    private final long size;
+    /**
+     * Parsed open api model. Model is kept only until rendered report or validation results are cached
+     */
+    private final OpenAPI openApi;
+    /**
+     * Template location used for ascii doc report rendering
+     */
+    private final String templateLocation;
+    /**
+     * Rendered ascii doc report
+     */
+    private final String asciiDocReport;
+    /**
+     * Validation rules version used for validation
+     */
+    private final String validationRulesVersion;
+    /**
+     * Validation results
+     */
+    private final ValidationResults validationResults;
+
+    /**
+     * Gets cache entry weight as approx. size of cached results in bytes.
+     *
+     * @return cache entry weight
+     */
+    public int getWeight() {
+        long weight = openApi != null ? Utils.estimateOpenApiModelSize(size) : 0L;
+        if (asciiDocReport != null) {
+            weight += asciiDocReport.length();
+        }
+        if (validationResults != null) {
+            weight += validationResults.size() * VALIDATION_RESULT_SIZE_BYTES;
+        }
+        return (int) Math.min(Math.max(weight, 1L), Integer.MAX_VALUE);
+    }
+}
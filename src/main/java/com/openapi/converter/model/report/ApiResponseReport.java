@@ -1,6 +1,8 @@
 package com.openapi.converter.model.report;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 /**
  * Api response report.
@@ -23,11 +25,21 @@ public class ApiResponseReport {
      */
     private String contentType;
     /**
-     * Example value
+     * Example report
      */
-    private String example;
+    @Getter(AccessLevel.NONE)
+    private ExampleReport example;
     /**
      * Schema report
      */
     private SchemaReport schema;
+
+    /**
+     * Gets example value. Example is serialized to json on first access.
+     *
+     * @return example json or {@code null} if example is not specified
+     */
+    public String getExample() {
+        return example != null ? example.getJson() : null;
+    }
 }
@@ -0,0 +1,34 @@
+package com.openapi.converter.model.report;
+
+import com.google.common.base.Suppliers;
+
+import java.util.function.Supplier;
+
+/**
+ * Example report. Example value is serialized to json lazily on first access and serialized json is kept,
+ * so example shared by several operations is serialized once and example never printed is not serialized.
+ *
+ * @author Roman Batygin
+ */
+public class ExampleReport {
+
+    private final Supplier<String> json;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param jsonSupplier - example json supplier
+     */
+    public ExampleReport(Supplier<String> jsonSupplier) {
+        this.json = Suppliers.memoize(jsonSupplier::get);
+    }
+
+    /**
+     * Gets example json.
+     *
+     * @return example json
+     */
+    public String getJson() {
+        return json.get();
+    }
+}
@@ -1,6 +1,8 @@
 package com.openapi.converter.model.report;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 import java.util.List;
 
@@ -24,11 +26,21 @@ public class RequestBodyReport {
      */
     private SchemaReport schema;
     /**
-     * Example value
+     * Example report
      */
-    private String example;
+    @Getter(AccessLevel.NONE)
+    private ExampleReport example;
     /**
      * Field properties (used for multipart form data requests)
      */
     private List<FieldReport> schemaProperties;
+
+    /**
+     * Gets example value. Example is serialized to json on first access.
+     *
+     * @return example json or {@code null} if example is not specified
+     */
+    public String getExample() {
+        return example != null ? example.getJson() : null;
+    }
 }
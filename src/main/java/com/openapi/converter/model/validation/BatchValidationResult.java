@@ -0,0 +1,29 @@
+package com.openapi.converter.model.validation;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Validation results of single open api docs validated in batch mode.
+ *
+ * @author Roman Batygin
+ */
+@Data
+@Builder
+public class BatchValidationResult {
+
+    /**
+     * Open api docs name
+     */
+    private String name;
+
+    /**
+     * Validation results or {@code null} if open api docs can't be validated
+     */
+    private ValidationResults validationResults;
+
+    /**
+     * Error message if open api docs can't be read or validated
+     */
+    private String errorMessage;
+}
@@ -0,0 +1,59 @@
+package com.openapi.converter.model.validation;
+
+/**
+ * Open api node kinds visited by validation rules.
+ *
+ * @author Roman Batygin
+ */
+public enum NodeKind {
+
+    /**
+     * Api info
+     */
+    INFO,
+
+    /**
+     * Api operation
+     */
+    OPERATION,
+
+    /**
+     * Request parameter
+     */
+    PARAMETER,
+
+    /**
+     * Request parameter schema
+     */
+    PARAMETER_SCHEMA,
+
+    /**
+     * Request body media type
+     */
+    REQUEST_BODY,
+
+    /**
+     * Api response
+     */
+    RESPONSE,
+
+    /**
+     * Component schema
+     */
+    SCHEMA,
+
+    /**
+     * Component schema property
+     */
+    SCHEMA_PROPERTY,
+
+    /**
+     * Reference used in open api
+     */
+    REFERENCE,
+
+    /**
+     * Component reference (schema, response, parameter, example or request body)
+     */
+    COMPONENT
+}
@@ -120,5 +120,17 @@ public enum Rule {
     /**
      * Api response example required
      */
-    API_RESPONSE_EXAMPLE_REQUIRED
+    API_RESPONSE_EXAMPLE_REQUIRED,
+    /**
+     * Reference must point to existing component
+     */
+    UNRESOLVED_REFERENCE,
+    /**
+     * Schema all of chain must not be circular
+     */
+    CIRCULAR_ALL_OF_SCHEMA,
+    /**
+     * Component must be used by api operations
+     */
+    UNREACHABLE_COMPONENT
 }
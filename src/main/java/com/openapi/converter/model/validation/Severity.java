@@ -24,5 +24,10 @@ public enum Severity {
     /**
      * Info level
      */
-    INFO
+    INFO,
+
+    /**
+     * Rule is disabled
+     */
+    OFF
 }
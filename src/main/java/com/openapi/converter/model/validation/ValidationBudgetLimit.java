@@ -0,0 +1,24 @@
+package com.openapi.converter.model.validation;
+
+/**
+ * Validation budget limit.
+ *
+ * @author Roman Batygin
+ */
+public enum ValidationBudgetLimit {
+
+    /**
+     * Max. validation duration
+     */
+    MAX_DURATION,
+
+    /**
+     * Max. number of visited open api nodes
+     */
+    MAX_VISITED_NODES,
+
+    /**
+     * Max. number of validation results
+     */
+    MAX_RESULTS
+}
@@ -0,0 +1,271 @@
+package com.openapi.converter.model.validation;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact columnar container of validation results. Each result is stored as a row of primitive arrays:
+ * rule and severity ordinals and ids of location strings (endpoint path, schema reference, parameter or property,
+ * response code) interned in the container strings table, so no objects are created per result. Rule messages
+ * are not stored and must be resolved from the rule table when results are written. Results of validation stopped
+ * because of exceeded validation budget are partial and marked with exceeded budget limit.
+ *
+ * @author Roman Batygin
+ */
+public class ValidationResults {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NULL_ID = -1;
+
+    private static final Rule[] RULES = Rule.values();
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    private short[] rules = new short[INITIAL_CAPACITY];
+    private byte[] severities = new byte[INITIAL_CAPACITY];
+    private int[] paths = new int[INITIAL_CAPACITY];
+    private int[] schemaRefs = new int[INITIAL_CAPACITY];
+    private int[] parametersOrProperties = new int[INITIAL_CAPACITY];
+    private int[] responseCodes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Exceeded validation budget limit or {@code null} if validation is complete
+     */
+    @Getter
+    @Setter
+    private ValidationBudgetLimit exceededBudgetLimit;
+
+    /**
+     * Adds validation result.
+     *
+     * @param rule                - rule code
+     * @param severity            - severity level
+     * @param path                - endpoint path
+     * @param schemaRef           - schema reference
+     * @param parameterOrProperty - request parameter or schema property
+     * @param responseCode        - response code
+     */
+    public void add(Rule rule, Severity severity, String path, String schemaRef, String parameterOrProperty,
+                    String responseCode) {
+        if (size == rules.length) {
+            grow();
+        }
+        rules[size] = (short) rule.ordinal();
+        severities[size] = (byte) severity.ordinal();
+        paths[size] = getStringId(path);
+        schemaRefs[size] = getStringId(schemaRef);
+        parametersOrProperties[size] = getStringId(parameterOrProperty);
+        responseCodes[size] = getStringId(responseCode);
+        size++;
+    }
+
+    /**
+     * Gets validation results count.
+     *
+     * @return validation results count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks that there are no validation results.
+     *
+     * @return {@code true} if there are no validation results
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks that validation is complete, i.e. validation budget has not been exceeded.
+     *
+     * @return {@code true} if validation results are complete
+     */
+    public boolean isComplete() {
+        return exceededBudgetLimit == null;
+    }
+
+    /**
+     * Gets rule code of validation result.
+     *
+     * @param index - validation result index
+     * @return rule code
+     */
+    public Rule getRule(int index) {
+        return RULES[rules[checkIndex(index)]];
+    }
+
+    /**
+     * Gets severity level of validation result.
+     *
+     * @param index - validation result index
+     * @return severity level
+     */
+    public Severity getSeverity(int index) {
+        return SEVERITIES[severities[checkIndex(index)]];
+    }
+
+    /**
+     * Gets endpoint path of validation result.
+     *
+     * @param index - validation result index
+     * @return endpoint path
+     */
+    public String getPath(int index) {
+        return getString(paths[checkIndex(index)]);
+    }
+
+    /**
+     * Gets schema reference of validation result.
+     *
+     * @param index - validation result index
+     * @return schema reference
+     */
+    public String getSchemaRef(int index) {
+        return getString(schemaRefs[checkIndex(index)]);
+    }
+
+    /**
+     * Gets request parameter or schema property of validation result.
+     *
+     * @param index - validation result index
+     * @return request parameter or schema property
+     */
+    public String getParameterOrProperty(int index) {
+        return getString(parametersOrProperties[checkIndex(index)]);
+    }
+
+    /**
+     * Gets response code of validation result.
+     *
+     * @param index - validation result index
+     * @return response code
+     */
+    public String getResponseCode(int index) {
+        return getString(responseCodes[checkIndex(index)]);
+    }
+
+    /**
+     * Sorts validation results by severity level. Sorting is stable (counting sort by severity ordinal),
+     * so results with the same severity keep their order.
+     */
+    public void sortBySeverity() {
+        int[] offsets = new int[SEVERITIES.length];
+        long[] severityCounts = countBySeverity();
+        for (int i = 1; i < SEVERITIES.length; i++) {
+            offsets[i] = offsets[i - 1] + (int) severityCounts[i - 1];
+        }
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[offsets[severities[i]]++] = i;
+        }
+        short[] sortedRules = new short[rules.length];
+        byte[] sortedSeverities = new byte[severities.length];
+        for (int i = 0; i < size; i++) {
+            sortedRules[i] = rules[order[i]];
+            sortedSeverities[i] = severities[order[i]];
+        }
+        rules = sortedRules;
+        severities = sortedSeverities;
+        paths = reorder(paths, order);
+        schemaRefs = reorder(schemaRefs, order);
+        parametersOrProperties = reorder(parametersOrProperties, order);
+        responseCodes = reorder(responseCodes, order);
+    }
+
+    /**
+     * Gets validation results count for each severity level in a single pass.
+     *
+     * @return validation results count indexed by severity level ordinal
+     */
+    public long[] countBySeverity() {
+        long[] severityCounts = new long[SEVERITIES.length];
+        for (int i = 0; i < size; i++) {
+            severityCounts[severities[i]]++;
+        }
+        return severityCounts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidationResults that) || size != that.size ||
+                exceededBudgetLimit != that.exceededBudgetLimit) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (rules[i] != that.rules[i] || severities[i] != that.severities[i] ||
+                    !Objects.equals(getPath(i), that.getPath(i)) ||
+                    !Objects.equals(getSchemaRef(i), that.getSchemaRef(i)) ||
+                    !Objects.equals(getParameterOrProperty(i), that.getParameterOrProperty(i)) ||
+                    !Objects.equals(getResponseCode(i), that.getResponseCode(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = size;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Objects.hash(rules[i], severities[i], getPath(i), getSchemaRef(i),
+                    getParameterOrProperty(i), getResponseCode(i));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ValidationResults(size=%d, strings=%d)", size, strings.size());
+    }
+
+    private int getStringId(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        return stringIds.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    private String getString(int id) {
+        return id == NULL_ID ? null : strings.get(id);
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    private void grow() {
+        int capacity = rules.length * 2;
+        rules = Arrays.copyOf(rules, capacity);
+        severities = Arrays.copyOf(severities, capacity);
+        paths = Arrays.copyOf(paths, capacity);
+        schemaRefs = Arrays.copyOf(schemaRefs, capacity);
+        parametersOrProperties = Arrays.copyOf(parametersOrProperties, capacity);
+        responseCodes = Arrays.copyOf(responseCodes, capacity);
+    }
+
+    private int[] reorder(int[] column, int[] order) {
+        int[] sortedColumn = new int[column.length];
+        for (int i = 0; i < size; i++) {
+            sortedColumn[i] = column[order[i]];
+        }
+        return sortedColumn;
+    }
+}
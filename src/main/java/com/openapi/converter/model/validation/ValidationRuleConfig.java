@@ -2,6 +2,8 @@ package com.openapi.converter.model.validation;
 
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * Validation rule config model.
  *
@@ -19,4 +21,14 @@ public class ValidationRuleConfig {
      * Rule message
      */
     private String message;
+
+    /**
+     * Endpoint path globs to which rule is applied. Rule is applied to all paths, if not specified
+     */
+    private List<String> includePaths;
+
+    /**
+     * Endpoint path globs to which rule is not applied
+     */
+    private List<String> excludePaths;
 }
@@ -21,7 +21,14 @@ import java.util.zip.ZipOutputStream;
 @Slf4j
 public abstract class AbstractCsvReportGenerator<T> implements ReportGenerator<T> {
 
-    private static final char HEADER_DELIMITER = ';';
+    static final char HEADER_DELIMITER = ';';
+
+    /**
+     * Csv format of report records without header
+     */
+    static final CSVFormat RECORD_CSV_FORMAT = CSVFormat.EXCEL.builder()
+            .setDelimiter(HEADER_DELIMITER)
+            .build();
 
     @Override
     public void generateReport(T data, OutputStream outputStream) throws IOException {
@@ -29,28 +36,32 @@ public abstract class AbstractCsvReportGenerator<T> implements ReportGenerator<T
         @Cleanup var writer = new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8);
 
         zipOutputStream.putNextEntry(new ZipEntry(getSimpleReportName()));
-        var resultsCsvFormat = CSVFormat.EXCEL.builder()
-                .setHeader(getSimpleReportHeaders())
-                .setDelimiter(HEADER_DELIMITER)
-                .build();
-        var resultsPrinter = new CSVPrinter(writer, resultsCsvFormat);
+        var resultsPrinter = new CSVPrinter(writer, createCsvFormat(getSimpleReportHeaders()));
         printSimpleReport(resultsPrinter, data);
         writer.flush();
         zipOutputStream.flush();
         zipOutputStream.closeEntry();
 
         zipOutputStream.putNextEntry(new ZipEntry(getTotalReportName()));
-        var totalCsvFormat = CSVFormat.EXCEL.builder()
-                .setHeader(getTotalReportHeaders())
-                .setDelimiter(HEADER_DELIMITER)
-                .build();
-        var totalPrinter = new CSVPrinter(writer, totalCsvFormat);
+        var totalPrinter = new CSVPrinter(writer, createCsvFormat(getTotalReportHeaders()));
         printTotalReport(totalPrinter, data);
         writer.flush();
         zipOutputStream.flush();
         zipOutputStream.closeEntry();
     }
 
+    /**
+     * Creates csv format of report with header.
+     *
+     * @param headers - report headers
+     * @return csv format
+     */
+    static CSVFormat createCsvFormat(String[] headers) {
+        return RECORD_CSV_FORMAT.builder()
+                .setHeader(headers)
+                .build();
+    }
+
     protected abstract String[] getSimpleReportHeaders();
 
     protected abstract String[] getTotalReportHeaders();
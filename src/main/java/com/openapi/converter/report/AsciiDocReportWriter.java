@@ -0,0 +1,22 @@
+package com.openapi.converter.report;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Ascii doc report writer. Report data is prepared before writer is created, so report is written
+ * without intermediate report string.
+ *
+ * @author Roman Batygin
+ */
+@FunctionalInterface
+public interface AsciiDocReportWriter {
+
+    /**
+     * Writes ascii doc report.
+     *
+     * @param writer - writer
+     * @throws IOException in case of I/O error
+     */
+    void write(Writer writer) throws IOException;
+}
@@ -0,0 +1,105 @@
+package com.openapi.converter.report;
+
+import com.openapi.converter.model.validation.BatchValidationResult;
+import com.openapi.converter.model.validation.Severity;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.openapi.converter.report.AbstractCsvReportGenerator.createCsvFormat;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.OPEN_API_VALIDATION_RESULTS_TOTAL_CSV;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.SIMPLE_REPORT_HEADERS;
+
+/**
+ * Csv report generator for batch validation results. Report archive contains validation results log
+ * for each validated open api docs and combined total report with a row for each open api docs,
+ * open api docs that can't be validated are reported in total report with error message.
+ *
+ * @author Roman Batygin
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenApiBatchValidationResultsCsvReportGenerator
+        implements ReportGenerator<List<BatchValidationResult>> {
+
+    private static final String[] BATCH_TOTAL_REPORT_HEADERS = {
+            "Open API",
+            "Total",
+            "Critical",
+            "Major",
+            "Minor",
+            "Info",
+            "Exceeded budget limit",
+            "Error"
+    };
+
+    private static final String VALIDATION_RESULTS_LOG_CSV = "%s-validation-results-log.csv";
+    private static final String VALIDATION_RESULTS_LOG_CSV_WITH_INDEX = "%s (%d)-validation-results-log.csv";
+
+    private final OpenApiValidationResultsCsvReportGenerator openApiValidationResultsCsvReportGenerator;
+
+    @Override
+    public void generateReport(List<BatchValidationResult> batchValidationResults, OutputStream outputStream)
+            throws IOException {
+        @Cleanup var zipOutputStream = new ZipOutputStream(outputStream);
+        @Cleanup var writer = new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8);
+        Map<String, Integer> reportNamesCounter = newHashMap();
+        for (var batchValidationResult : batchValidationResults) {
+            if (batchValidationResult.getValidationResults() == null) {
+                continue;
+            }
+            String fileName = generateFileName(batchValidationResult.getName(), reportNamesCounter);
+            zipOutputStream.putNextEntry(new ZipEntry(fileName));
+            var resultsPrinter = new CSVPrinter(writer, createCsvFormat(SIMPLE_REPORT_HEADERS));
+            openApiValidationResultsCsvReportGenerator.printSimpleReport(resultsPrinter,
+                    batchValidationResult.getValidationResults());
+            writer.flush();
+            zipOutputStream.flush();
+            zipOutputStream.closeEntry();
+        }
+
+        zipOutputStream.putNextEntry(new ZipEntry(OPEN_API_VALIDATION_RESULTS_TOTAL_CSV));
+        var totalPrinter = new CSVPrinter(writer, createCsvFormat(BATCH_TOTAL_REPORT_HEADERS));
+        for (var batchValidationResult : batchValidationResults) {
+            var validationResults = batchValidationResult.getValidationResults();
+            if (validationResults == null) {
+                totalPrinter.printRecord(batchValidationResult.getName(), null, null, null, null, null, null,
+                        batchValidationResult.getErrorMessage());
+                continue;
+            }
+            long[] severityCounts = validationResults.countBySeverity();
+            totalPrinter.printRecord(
+                    batchValidationResult.getName(),
+                    validationResults.size(),
+                    severityCounts[Severity.CRITICAL.ordinal()],
+                    severityCounts[Severity.MAJOR.ordinal()],
+                    severityCounts[Severity.MINOR.ordinal()],
+                    severityCounts[Severity.INFO.ordinal()],
+                    validationResults.getExceededBudgetLimit(),
+                    null
+            );
+        }
+        writer.flush();
+        zipOutputStream.flush();
+        zipOutputStream.closeEntry();
+    }
+
+    private String generateFileName(String name, Map<String, Integer> reportNamesCounter) {
+        var counter = reportNamesCounter.getOrDefault(name, 0);
+        String fileName = counter == 0 ? String.format(VALIDATION_RESULTS_LOG_CSV, name) :
+                String.format(VALIDATION_RESULTS_LOG_CSV_WITH_INDEX, name, counter);
+        reportNamesCounter.put(name, ++counter);
+        return fileName;
+    }
+}
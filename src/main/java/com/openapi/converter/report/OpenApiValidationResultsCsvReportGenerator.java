@@ -2,20 +2,26 @@ package com.openapi.converter.report;
 
 import com.openapi.converter.dto.openapi.Info;
 import com.openapi.converter.model.validation.Severity;
-import com.openapi.converter.model.validation.ValidationResult;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.service.ValidationRuleService;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Optional;
 
-import static com.openapi.converter.util.Utils.countBySeverity;
-
+/**
+ * Csv report generator for validation results. Rule messages are resolved from the rule table
+ * while records are written.
+ *
+ * @author Roman Batygin
+ */
 @Component
-public class OpenApiValidationResultsCsvReportGenerator extends AbstractCsvReportGenerator<List<ValidationResult>> {
+@RequiredArgsConstructor
+public class OpenApiValidationResultsCsvReportGenerator extends AbstractCsvReportGenerator<ValidationResults> {
 
-    private static final String[] SIMPLE_REPORT_HEADERS = {
+    static final String[] SIMPLE_REPORT_HEADERS = {
             "Rule code",
             "Severity level",
             "Endpoint path",
@@ -25,16 +31,19 @@ public class OpenApiValidationResultsCsvReportGenerator extends AbstractCsvRepor
             "Message",
     };
 
-    private static final String[] TOTAL_REPORT_HEADERS = {
+    static final String[] TOTAL_REPORT_HEADERS = {
             "Total",
             "Critical",
             "Major",
             "Minor",
-            "Info"
+            "Info",
+            "Exceeded budget limit"
     };
 
-    private static final String OPEN_API_VALIDATION_RESULTS_TOTAL_CSV = "open-api-validation-results-total.csv";
-    private static final String OPEN_API_VALIDATION_RESULTS_LOG_CSV = "open-api-validation-results-log.csv";
+    static final String OPEN_API_VALIDATION_RESULTS_TOTAL_CSV = "open-api-validation-results-total.csv";
+    static final String OPEN_API_VALIDATION_RESULTS_LOG_CSV = "open-api-validation-results-log.csv";
+
+    private final ValidationRuleService validationRuleService;
 
     @Override
     protected String[] getSimpleReportHeaders() {
@@ -57,30 +66,33 @@ public class OpenApiValidationResultsCsvReportGenerator extends AbstractCsvRepor
     }
 
     @Override
-    protected void printSimpleReport(CSVPrinter csvPrinter, List<ValidationResult> validationResults)
+    protected void printSimpleReport(CSVPrinter csvPrinter, ValidationResults validationResults)
             throws IOException {
-        for (var validationResult : validationResults) {
+        for (int i = 0; i < validationResults.size(); i++) {
+            var rule = validationResults.getRule(i);
             csvPrinter.printRecord(
-                    validationResult.getRule(),
-                    validationResult.getSeverity(),
-                    validationResult.getPath(),
-                    validationResult.getSchemaRef(),
-                    validationResult.getParameterOrProperty(),
-                    validationResult.getResponseCode(),
-                    validationResult.getMessage()
+                    rule,
+                    validationResults.getSeverity(i),
+                    validationResults.getPath(i),
+                    validationResults.getSchemaRef(i),
+                    validationResults.getParameterOrProperty(i),
+                    validationResults.getResponseCode(i),
+                    validationRuleService.getValidationRuleConfig(rule).getMessage()
             );
         }
     }
 
     @Override
-    protected void printTotalReport(CSVPrinter csvPrinter, List<ValidationResult> validationResults)
+    protected void printTotalReport(CSVPrinter csvPrinter, ValidationResults validationResults)
             throws IOException {
+        long[] severityCounts = validationResults.countBySeverity();
         csvPrinter.printRecord(
                 validationResults.size(),
-                countBySeverity(validationResults, Severity.CRITICAL),
-                countBySeverity(validationResults, Severity.MAJOR),
-                countBySeverity(validationResults, Severity.MINOR),
-                countBySeverity(validationResults, Severity.INFO)
+                severityCounts[Severity.CRITICAL.ordinal()],
+                severityCounts[Severity.MAJOR.ordinal()],
+                severityCounts[Severity.MINOR.ordinal()],
+                severityCounts[Severity.INFO.ordinal()],
+                validationResults.getExceededBudgetLimit()
         );
     }
 }
@@ -0,0 +1,77 @@
+package com.openapi.converter.report;
+
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.model.validation.Severity;
+import com.openapi.converter.service.OpenApiValidationService;
+import com.openapi.converter.service.ValidationRuleService;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.openapi.converter.report.AbstractCsvReportGenerator.RECORD_CSV_FORMAT;
+import static com.openapi.converter.report.AbstractCsvReportGenerator.createCsvFormat;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.OPEN_API_VALIDATION_RESULTS_LOG_CSV;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.OPEN_API_VALIDATION_RESULTS_TOTAL_CSV;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.SIMPLE_REPORT_HEADERS;
+import static com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator.TOTAL_REPORT_HEADERS;
+
+/**
+ * Streaming csv report generator for open api validation results. Validation results list is not built:
+ * rule violations are written into the report archive by severity buckets during validation,
+ * so the report is the same as {@link OpenApiValidationResultsCsvReportGenerator} report.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenApiValidationResultsCsvStreamingReportGenerator implements ReportGenerator<OpenAPI> {
+
+    private final AppProperties appProperties;
+    private final OpenApiValidationService openApiValidationService;
+    private final ValidationRuleService validationRuleService;
+
+    @Override
+    public void generateReport(OpenAPI openApi, OutputStream outputStream) throws IOException {
+        @Cleanup var zipOutputStream = new ZipOutputStream(outputStream);
+        @Cleanup var writer = new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8);
+
+        zipOutputStream.putNextEntry(new ZipEntry(OPEN_API_VALIDATION_RESULTS_LOG_CSV));
+        RECORD_CSV_FORMAT.printRecord(writer, (Object[]) SIMPLE_REPORT_HEADERS);
+        var validationProperties = appProperties.getValidation();
+        @Cleanup var validationResultsCsvBuckets = new ValidationResultsCsvBuckets(validationRuleService, writer,
+                validationProperties.getStreamingBucketMemoryLimit().toBytes(),
+                Path.of(validationProperties.getSpillDirectory()));
+        var exceededBudgetLimit = openApiValidationService.validate(openApi, validationResultsCsvBuckets);
+        validationResultsCsvBuckets.writeTo(writer);
+        writer.flush();
+        zipOutputStream.flush();
+        zipOutputStream.closeEntry();
+
+        zipOutputStream.putNextEntry(new ZipEntry(OPEN_API_VALIDATION_RESULTS_TOTAL_CSV));
+        var totalPrinter = new CSVPrinter(writer, createCsvFormat(TOTAL_REPORT_HEADERS));
+        totalPrinter.printRecord(
+                validationResultsCsvBuckets.getTotalCount(),
+                validationResultsCsvBuckets.getCount(Severity.CRITICAL),
+                validationResultsCsvBuckets.getCount(Severity.MAJOR),
+                validationResultsCsvBuckets.getCount(Severity.MINOR),
+                validationResultsCsvBuckets.getCount(Severity.INFO),
+                exceededBudgetLimit
+        );
+        writer.flush();
+        zipOutputStream.flush();
+        zipOutputStream.closeEntry();
+        log.info("[{}] validation results have been streamed into report", validationResultsCsvBuckets.getTotalCount());
+    }
+}
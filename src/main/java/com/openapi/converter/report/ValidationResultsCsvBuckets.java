@@ -0,0 +1,179 @@
+package com.openapi.converter.report;
+
+import com.openapi.converter.model.validation.Rule;
+import com.openapi.converter.model.validation.Severity;
+import com.openapi.converter.service.ValidationRuleService;
+import com.openapi.converter.service.validation.ValidationContext;
+import com.openapi.converter.service.validation.ValidationResultSink;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Validation results sink formatting rule violations into csv records grouped by severity buckets.
+ * Records of the highest severity are written directly to the output, because they go first in the report,
+ * other buckets are kept in memory up to the limit and spilled to disk afterwards. Totals are kept as
+ * running counters.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+public class ValidationResultsCsvBuckets implements ValidationResultSink, Closeable {
+
+    private static final Severity DIRECT_SEVERITY = Severity.values()[0];
+    private static final String SPILL_FILE_PREFIX = "bucket-";
+    private static final String SPILL_FILE_SUFFIX = ".csv";
+
+    private final ValidationRuleService validationRuleService;
+    private final CSVPrinter directPrinter;
+    private final long bucketMemoryLimit;
+    private final Path spillDirectory;
+
+    private final Map<Severity, SeverityBucket> buckets = new EnumMap<>(Severity.class);
+    private final long[] severityCounters = new long[Severity.values().length];
+    private long totalCounter;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param validationRuleService - validation rule service
+     * @param directOutput          - output for records of the highest severity
+     * @param bucketMemoryLimit     - max. bucket size in chars kept in memory
+     * @param spillDirectory        - directory for buckets spilled to disk
+     * @throws IOException in case of I/O error
+     */
+    public ValidationResultsCsvBuckets(ValidationRuleService validationRuleService, Appendable directOutput,
+                                       long bucketMemoryLimit, Path spillDirectory) throws IOException {
+        this.validationRuleService = validationRuleService;
+        this.directPrinter = new CSVPrinter(directOutput, AbstractCsvReportGenerator.RECORD_CSV_FORMAT);
+        this.bucketMemoryLimit = bucketMemoryLimit;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void accept(Rule rule, ValidationContext context) {
+        var validationRuleConfig = validationRuleService.getValidationRuleConfig(rule);
+        var severity = validationRuleConfig.getSeverity();
+        severityCounters[severity.ordinal()]++;
+        totalCounter++;
+        try {
+            if (DIRECT_SEVERITY.equals(severity)) {
+                printRecord(directPrinter, rule, severity, validationRuleConfig.getMessage(), context);
+            } else {
+                var bucket = buckets.computeIfAbsent(severity, s -> new SeverityBucket());
+                printRecord(bucket.csvPrinter, rule, severity, validationRuleConfig.getMessage(), context);
+                bucket.spillIfNeeded();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes buffered buckets to the output in severity order.
+     *
+     * @param output - output
+     * @throws IOException in case of I/O error
+     */
+    public void writeTo(Writer output) throws IOException {
+        for (var severity : Severity.values()) {
+            var bucket = buckets.get(severity);
+            if (bucket != null) {
+                bucket.writeTo(output);
+            }
+        }
+    }
+
+    /**
+     * Gets total rule violations count.
+     *
+     * @return total count
+     */
+    public long getTotalCount() {
+        return totalCounter;
+    }
+
+    /**
+     * Gets rule violations count with specified severity.
+     *
+     * @param severity - severity
+     * @return rule violations count
+     */
+    public long getCount(Severity severity) {
+        return severityCounters[severity.ordinal()];
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (var bucket : buckets.values()) {
+            bucket.close();
+        }
+    }
+
+    private void printRecord(CSVPrinter csvPrinter, Rule rule, Severity severity, String message,
+                             ValidationContext context) throws IOException {
+        csvPrinter.printRecord(rule, severity, context.getPath(), context.getSchemaRef(),
+                context.getParameterOrProperty(), context.getResponseCode(), message);
+    }
+
+    /**
+     * Severity bucket with csv records.
+     */
+    private class SeverityBucket implements Closeable {
+
+        final StringBuilder chunk = new StringBuilder();
+        final CSVPrinter csvPrinter;
+
+        Path spillFile;
+        Writer spillWriter;
+
+        SeverityBucket() {
+            try {
+                this.csvPrinter = new CSVPrinter(chunk, AbstractCsvReportGenerator.RECORD_CSV_FORMAT);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void spillIfNeeded() throws IOException {
+            if (chunk.length() < bucketMemoryLimit) {
+                return;
+            }
+            if (spillWriter == null) {
+                Files.createDirectories(spillDirectory);
+                spillFile = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+                log.debug("Severity bucket is spilled to [{}]", spillFile);
+            }
+            spillWriter.append(chunk);
+            chunk.setLength(0);
+        }
+
+        void writeTo(Writer output) throws IOException {
+            if (spillWriter != null) {
+                spillWriter.flush();
+                try (var reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                    reader.transferTo(output);
+                }
+            }
+            output.append(chunk);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (spillWriter != null) {
+                spillWriter.close();
+                Files.deleteIfExists(spillFile);
+            }
+        }
+    }
+}
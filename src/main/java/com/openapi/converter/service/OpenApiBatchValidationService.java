@@ -0,0 +1,232 @@
+package com.openapi.converter.service;
+
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.OpenApiReportRequestDto;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.exception.InvalidFileFormatException;
+import com.openapi.converter.exception.OpenApiErrorException;
+import com.openapi.converter.model.validation.BatchValidationResult;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.util.Utils;
+import lombok.Cleanup;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static com.openapi.converter.dto.Constraints.OPEN_API_VALIDATION_REQUESTS_MAX_SIZE;
+
+/**
+ * Open api batch validation service. Open api docs are validated concurrently on the bounded batch pool,
+ * the results list keeps the order of the batch. Uploaded zip archives are transferred to spill directory,
+ * so their entries are read on demand by validation tasks. Open api docs that can't be read or validated
+ * are reported with error message and don't fail the whole batch.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Service
+public class OpenApiBatchValidationService {
+
+    private static final String ZIP_EXTENSION = "zip";
+    private static final String SPILL_FILE_PREFIX = "batch-";
+    private static final String SPILL_FILE_SUFFIX = ".zip";
+
+    private final AppProperties appProperties;
+    private final OpenApiReader openApiReader;
+    private final OpenApiUploadCache openApiUploadCache;
+    private final OpenApiValidationService openApiValidationService;
+    private final ThreadPoolTaskExecutor validationBatchExecutor;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param appProperties            - app properties
+     * @param openApiReader            - open api reader
+     * @param openApiUploadCache       - uploaded open api files results cache
+     * @param openApiValidationService - open api validation service
+     * @param validationBatchExecutor  - batch validation executor
+     */
+    public OpenApiBatchValidationService(AppProperties appProperties,
+                                         OpenApiReader openApiReader,
+                                         OpenApiUploadCache openApiUploadCache,
+                                         OpenApiValidationService openApiValidationService,
+                                         @Qualifier("validationBatchExecutor")
+                                         ThreadPoolTaskExecutor validationBatchExecutor) {
+        this.appProperties = appProperties;
+        this.openApiReader = openApiReader;
+        this.openApiUploadCache = openApiUploadCache;
+        this.openApiValidationService = openApiValidationService;
+        this.validationBatchExecutor = validationBatchExecutor;
+    }
+
+    /**
+     * Validates uploaded open api files. Zip archives are expanded into open api files they contain,
+     * archive entries with unsupported extensions are skipped.
+     *
+     * @param multipartFiles - open api files or zip archives
+     * @return validation results for each open api file
+     * @throws IOException in case of I/O error
+     */
+    public List<BatchValidationResult> validateFiles(List<MultipartFile> multipartFiles) throws IOException {
+        log.info("Starting to validate [{}] uploaded files in batch mode", multipartFiles.size());
+        List<Supplier<BatchValidationResult>> validationTasks = new ArrayList<>();
+        List<ZipFile> zipFiles = new ArrayList<>();
+        List<Path> spillFiles = new ArrayList<>();
+        try {
+            for (var multipartFile : multipartFiles) {
+                String fileName = multipartFile.getOriginalFilename();
+                if (ZIP_EXTENSION.equals(FilenameUtils.getExtension(fileName))) {
+                    var spillFile = spill(multipartFile);
+                    spillFiles.add(spillFile);
+                    var zipFile = openZipFile(fileName, spillFile);
+                    zipFiles.add(zipFile);
+                    addZipEntriesValidationTasks(fileName, zipFile, validationTasks);
+                } else {
+                    openApiReader.checkFileExtension(multipartFile);
+                    validationTasks.add(() -> buildBatchValidationResult(getOpenApiName(fileName),
+                            () -> openApiUploadCache.getValidationResults(multipartFile)));
+                }
+            }
+            checkBatchSize(validationTasks);
+            return validateConcurrently(validationTasks);
+        } finally {
+            for (var zipFile : zipFiles) {
+                zipFile.close();
+            }
+            for (var spillFile : spillFiles) {
+                Files.deleteIfExists(spillFile);
+            }
+        }
+    }
+
+    /**
+     * Validates open api docs from external resources. Each open api resource is read and validated by its own
+     * validation task, so open api docs are not kept in memory until the whole batch is read and resources that
+     * can't be read are reported with error message.
+     *
+     * @param openApiResources - open api resources
+     * @return validation results for each open api resource
+     */
+    public List<BatchValidationResult> validateResources(List<OpenApiReportRequestDto> openApiResources) {
+        log.info("Starting to validate [{}] open api resources in batch mode", openApiResources.size());
+        List<Supplier<BatchValidationResult>> validationTasks = new ArrayList<>(openApiResources.size());
+        for (var openApiResource : openApiResources) {
+            validationTasks.add(() -> buildBatchValidationResult(openApiResource.getReportFileName(),
+                    () -> openApiValidationService.validate(openApiReader.readOpenApi(openApiResource))));
+        }
+        return validateConcurrently(validationTasks);
+    }
+
+    /**
+     * Runs validation tasks concurrently. All tasks are completed before method returns, even if some of them
+     * have failed, so resources used by tasks (for example zip archives) may be released after that.
+     *
+     * @param validationTasks - validation tasks
+     * @return validation results for each task
+     */
+    private List<BatchValidationResult> validateConcurrently(List<Supplier<BatchValidationResult>> validationTasks) {
+        var futures = validationTasks.stream()
+                .map(validationTask -> CompletableFuture.supplyAsync(validationTask, validationBatchExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((result, ex) -> null)
+                .join();
+        try {
+            var batchValidationResults = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            log.info("[{}] open api docs have been validated in batch mode", batchValidationResults.size());
+            return batchValidationResults;
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    private void addZipEntriesValidationTasks(String zipFileName, ZipFile zipFile,
+                                              List<Supplier<BatchValidationResult>> validationTasks) {
+        var zipEntries = zipFile.entries();
+        while (zipEntries.hasMoreElements()) {
+            var zipEntry = zipEntries.nextElement();
+            if (zipEntry.isDirectory()) {
+                continue;
+            }
+            if (!openApiReader.isSupportedFile(zipEntry.getName())) {
+                log.warn("Zip archive [{}] entry [{}] has unsupported extension and will be skipped", zipFileName,
+                        zipEntry.getName());
+                continue;
+            }
+            validationTasks.add(() -> buildBatchValidationResult(getOpenApiName(zipEntry.getName()),
+                    () -> openApiValidationService.validate(readZipEntry(zipFile, zipEntry))));
+        }
+    }
+
+    private OpenAPI readZipEntry(ZipFile zipFile, ZipEntry zipEntry) {
+        try {
+            @Cleanup var inputStream = zipFile.getInputStream(zipEntry);
+            return openApiReader.read(zipEntry.getName(), inputStream);
+        } catch (IOException ex) {
+            log.error("Error while read zip entry [{}]: {}", zipEntry.getName(), ex.getMessage());
+            throw new InvalidFileFormatException(String.format("Invalid file [%s] format", zipEntry.getName()));
+        }
+    }
+
+    private BatchValidationResult buildBatchValidationResult(String name, Supplier<ValidationResults> validation) {
+        try {
+            return BatchValidationResult.builder()
+                    .name(name)
+                    .validationResults(validation.get())
+                    .build();
+        } catch (OpenApiErrorException ex) {
+            log.error("Open api docs [{}] can't be validated in batch mode: {}", name, ex.getMessage());
+            return BatchValidationResult.builder()
+                    .name(name)
+                    .errorMessage(ex.getMessage())
+                    .build();
+        }
+    }
+
+    private String getOpenApiName(String fileName) {
+        return Utils.getOpenApiFileBaseName(FilenameUtils.getName(fileName));
+    }
+
+    private Path spill(MultipartFile multipartFile) throws IOException {
+        var spillDirectory = Files.createDirectories(Path.of(appProperties.getUpload().getSpillDirectory()));
+        var spillFile = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+        multipartFile.transferTo(spillFile);
+        return spillFile;
+    }
+
+    private ZipFile openZipFile(String fileName, Path spillFile) {
+        try {
+            return new ZipFile(spillFile.toFile());
+        } catch (IOException ex) {
+            log.error("Error while open zip archive [{}]: {}", fileName, ex.getMessage());
+            throw new InvalidFileFormatException(String.format("Invalid file [%s] format", fileName));
+        }
+    }
+
+    private void checkBatchSize(List<Supplier<BatchValidationResult>> validationTasks) {
+        if (validationTasks.isEmpty() || validationTasks.size() > OPEN_API_VALIDATION_REQUESTS_MAX_SIZE) {
+            throw new InvalidFileFormatException(
+                    String.format("Expected from 1 to %d open api files in batch, got [%d]",
+                            OPEN_API_VALIDATION_REQUESTS_MAX_SIZE, validationTasks.size()));
+        }
+    }
+}
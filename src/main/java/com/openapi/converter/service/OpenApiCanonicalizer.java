@@ -0,0 +1,269 @@
+package com.openapi.converter.service;
+
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.dto.openapi.Components;
+import com.openapi.converter.dto.openapi.Example;
+import com.openapi.converter.dto.openapi.Info;
+import com.openapi.converter.dto.openapi.MediaType;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.dto.openapi.Operation;
+import com.openapi.converter.dto.openapi.Parameter;
+import com.openapi.converter.dto.openapi.PathItem;
+import com.openapi.converter.dto.openapi.RequestBody;
+import com.openapi.converter.dto.openapi.Schema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Canonicalization pass over parsed open api model. Equal string values are replaced with the single instance
+ * and structurally identical leaf schemas (schemas without nested schemas) are shared, so parsed models
+ * retain less heap while several of them are held at once. Map keys are not processed, because json parser
+ * already canonicalizes field names. The model must not be modified after this pass.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenApiCanonicalizer {
+
+    /**
+     * Approx. string instance overhead (object header, hash, value array header)
+     */
+    private static final long STRING_OVERHEAD_BYTES = 40L;
+
+    /**
+     * Approx. schema instance shallow size with compressed oops
+     */
+    private static final long SCHEMA_SHALLOW_SIZE_BYTES = 136L;
+
+    private final AppProperties appProperties;
+
+    /**
+     * Canonicalizes open api model in place.
+     *
+     * @param openApi - open api model
+     * @return canonicalized open api model
+     */
+    public OpenAPI canonicalize(OpenAPI openApi) {
+        if (!appProperties.getOpenApiReader().isCanonicalizationEnabled() || openApi == null) {
+            return openApi;
+        }
+        var context = new CanonicalizationContext();
+        openApi.setOpenapi(context.string(openApi.getOpenapi()));
+        canonicalizeInfo(openApi.getInfo(), context);
+        forEachValue(openApi.getPaths(), pathItem -> canonicalizePathItem(pathItem, context));
+        canonicalizeComponents(openApi.getComponents(), context);
+        log.info("Open api [{}] has been canonicalized: shared strings [{}], shared schemas [{}], " +
+                        "approx. saved bytes [{}]", openApi.getInfo() != null ? openApi.getInfo().getTitle() : null,
+                context.sharedStrings, context.sharedSchemas, context.savedBytes);
+        return openApi;
+    }
+
+    private void canonicalizeInfo(Info info, CanonicalizationContext context) {
+        if (info == null) {
+            return;
+        }
+        info.setTitle(context.string(info.getTitle()));
+        info.setDescription(context.string(info.getDescription()));
+        info.setVersion(context.string(info.getVersion()));
+    }
+
+    private void canonicalizeComponents(Components components, CanonicalizationContext context) {
+        if (components == null) {
+            return;
+        }
+        replaceValues(components.getSchemas(), schema -> canonicalizeSchema(schema, context));
+        forEachValue(components.getResponses(), apiResponse -> canonicalizeApiResponse(apiResponse, context));
+        forEachValue(components.getParameters(), parameter -> canonicalizeParameter(parameter, context));
+        forEachValue(components.getExamples(), example -> canonicalizeExample(example, context));
+        forEachValue(components.getRequestBodies(), requestBody -> canonicalizeRequestBody(requestBody, context));
+    }
+
+    private void canonicalizePathItem(PathItem pathItem, CanonicalizationContext context) {
+        if (pathItem == null) {
+            return;
+        }
+        pathItem.setSummary(context.string(pathItem.getSummary()));
+        pathItem.setDescription(context.string(pathItem.getDescription()));
+        pathItem.setRef(context.string(pathItem.getRef()));
+        forEach(pathItem.getParameters(), parameter -> canonicalizeParameter(parameter, context));
+        Stream.of(pathItem.getGet(), pathItem.getPut(), pathItem.getPost(), pathItem.getDelete(),
+                        pathItem.getOptions(), pathItem.getHead(), pathItem.getPatch(), pathItem.getTrace())
+                .forEach(operation -> canonicalizeOperation(operation, context));
+    }
+
+    private void canonicalizeOperation(Operation operation, CanonicalizationContext context) {
+        if (operation == null) {
+            return;
+        }
+        context.strings(operation.getTags());
+        operation.setSummary(context.string(operation.getSummary()));
+        operation.setDescription(context.string(operation.getDescription()));
+        operation.setOperationId(context.string(operation.getOperationId()));
+        forEach(operation.getParameters(), parameter -> canonicalizeParameter(parameter, context));
+        canonicalizeRequestBody(operation.getRequestBody(), context);
+        forEachValue(operation.getResponses(), apiResponse -> canonicalizeApiResponse(apiResponse, context));
+    }
+
+    private void canonicalizeParameter(Parameter parameter, CanonicalizationContext context) {
+        if (parameter == null) {
+            return;
+        }
+        parameter.setName(context.string(parameter.getName()));
+        parameter.setIn(context.string(parameter.getIn()));
+        parameter.setDescription(context.string(parameter.getDescription()));
+        parameter.setRef(context.string(parameter.getRef()));
+        parameter.setStyle(context.string(parameter.getStyle()));
+        parameter.setExample(context.string(parameter.getExample()));
+        parameter.setSchema(canonicalizeSchema(parameter.getSchema(), context));
+        forEachValue(parameter.getExamples(), example -> canonicalizeExample(example, context));
+        forEachValue(parameter.getContent(), mediaType -> canonicalizeMediaType(mediaType, context));
+    }
+
+    private void canonicalizeRequestBody(RequestBody requestBody, CanonicalizationContext context) {
+        if (requestBody == null) {
+            return;
+        }
+        requestBody.setDescription(context.string(requestBody.getDescription()));
+        requestBody.setRef(context.string(requestBody.getRef()));
+        forEachValue(requestBody.getContent(), mediaType -> canonicalizeMediaType(mediaType, context));
+    }
+
+    private void canonicalizeApiResponse(ApiResponse apiResponse, CanonicalizationContext context) {
+        if (apiResponse == null) {
+            return;
+        }
+        apiResponse.setDescription(context.string(apiResponse.getDescription()));
+        apiResponse.setRef(context.string(apiResponse.getRef()));
+        forEachValue(apiResponse.getContent(), mediaType -> canonicalizeMediaType(mediaType, context));
+    }
+
+    private void canonicalizeMediaType(MediaType mediaType, CanonicalizationContext context) {
+        if (mediaType == null) {
+            return;
+        }
+        mediaType.setSchema(canonicalizeSchema(mediaType.getSchema(), context));
+        forEachValue(mediaType.getExamples(), example -> canonicalizeExample(example, context));
+    }
+
+    private void canonicalizeExample(Example example, CanonicalizationContext context) {
+        if (example == null) {
+            return;
+        }
+        example.setSummary(context.string(example.getSummary()));
+        example.setDescription(context.string(example.getDescription()));
+        example.setExternalValue(context.string(example.getExternalValue()));
+        example.setRef(context.string(example.getRef()));
+    }
+
+    private Schema canonicalizeSchema(Schema schema, CanonicalizationContext context) {
+        if (schema == null) {
+            return null;
+        }
+        schema.setNot(canonicalizeSchema(schema.getNot(), context));
+        schema.setItems(canonicalizeSchema(schema.getItems(), context));
+        replaceValues(schema.getProperties(), property -> canonicalizeSchema(property, context));
+        replaceElements(schema.getOneOf(), subSchema -> canonicalizeSchema(subSchema, context));
+        replaceElements(schema.getAllOf(), parentSchema -> canonicalizeSchema(parentSchema, context));
+        schema.setName(context.string(schema.getName()));
+        schema.setTitle(context.string(schema.getTitle()));
+        schema.setPattern(context.string(schema.getPattern()));
+        schema.setType(context.string(schema.getType()));
+        schema.setDescription(context.string(schema.getDescription()));
+        schema.setFormat(context.string(schema.getFormat()));
+        schema.setRef(context.string(schema.getRef()));
+        schema.setExample(context.string(schema.getExample()));
+        context.strings(schema.getRequired());
+        context.strings(schema.getEnums());
+        return isLeaf(schema) ? context.schema(schema) : schema;
+    }
+
+    private boolean isLeaf(Schema schema) {
+        return schema.getNot() == null && schema.getItems() == null
+                && CollectionUtils.isEmpty(schema.getProperties())
+                && CollectionUtils.isEmpty(schema.getOneOf())
+                && CollectionUtils.isEmpty(schema.getAllOf())
+                && (schema.getAdditionalProperties() == null || schema.getAdditionalProperties() instanceof Boolean);
+    }
+
+    private static <T> void forEach(List<T> list, Consumer<T> consumer) {
+        if (list != null) {
+            list.forEach(consumer);
+        }
+    }
+
+    private static <T> void forEachValue(Map<String, T> map, Consumer<T> consumer) {
+        if (map != null) {
+            map.values().forEach(consumer);
+        }
+    }
+
+    private static <T> void replaceElements(List<T> list, UnaryOperator<T> operator) {
+        if (list != null) {
+            list.replaceAll(operator);
+        }
+    }
+
+    private static <T> void replaceValues(Map<String, T> map, UnaryOperator<T> operator) {
+        if (map != null) {
+            map.replaceAll((key, value) -> operator.apply(value));
+        }
+    }
+
+    /**
+     * Canonicalization pass state.
+     */
+    private static class CanonicalizationContext {
+
+        final Map<String, String> stringPool = new HashMap<>();
+        final Map<Schema, Schema> schemaPool = new HashMap<>();
+
+        long sharedStrings;
+        long sharedSchemas;
+        long savedBytes;
+
+        String string(String value) {
+            if (value == null) {
+                return null;
+            }
+            var canonical = stringPool.putIfAbsent(value, value);
+            if (canonical == null) {
+                return value;
+            }
+            if (canonical != value) {
+                sharedStrings++;
+                savedBytes += STRING_OVERHEAD_BYTES + value.length();
+            }
+            return canonical;
+        }
+
+        void strings(List<String> values) {
+            if (values != null) {
+                values.replaceAll(this::string);
+            }
+        }
+
+        Schema schema(Schema schema) {
+            var canonical = schemaPool.putIfAbsent(schema, schema);
+            if (canonical == null) {
+                return schema;
+            }
+            if (canonical != schema) {
+                sharedSchemas++;
+                savedBytes += SCHEMA_SHALLOW_SIZE_BYTES;
+            }
+            return canonical;
+        }
+    }
+}
@@ -1,27 +1,49 @@
 package com.openapi.converter.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.MapMaker;
+import com.openapi.converter.config.AppProperties;
 import com.openapi.converter.dto.OpenApiReportRequestDto;
 import com.openapi.converter.dto.openapi.OpenAPI;
 import com.openapi.converter.exception.ExternalIntegrationErrorException;
 import com.openapi.converter.exception.InvalidFileExtensionException;
 import com.openapi.converter.exception.InvalidFileFormatException;
 import com.openapi.converter.exception.InvalidFormatException;
+import com.openapi.converter.model.cache.CachedOpenApiSpec;
 import lombok.Cleanup;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.io.input.ProxyInputStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
-
-import static com.openapi.converter.util.WebClientHelper.createWebClient;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Open api reader.
@@ -30,30 +52,72 @@ import static com.openapi.converter.util.WebClientHelper.createWebClient;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OpenApiReader {
 
     private static final String JSON_EXTENSION = "json";
+    private static final String YAML_EXTENSION = "yaml";
+    private static final String YML_EXTENSION = "yml";
+    private static final String GZIP_EXTENSION = "gz";
+    private static final String YAML_MEDIA_SUBTYPE = "yaml";
     private static final String API_DOCS_URL = "/v3/api-docs";
 
+    private final AppProperties appProperties;
     private final ObjectMapper openApiObjectMapper;
+    private final ObjectMapper openApiYamlObjectMapper;
+    private final ThreadPoolTaskExecutor openApiReaderExecutor;
+    private final WebClientRegistry webClientRegistry;
+    private final OpenApiSpecCache openApiSpecCache;
+    private final OpenApiCanonicalizer openApiCanonicalizer;
+
+    /**
+     * Per host fetch queues shared by all requests. Queues are held by weak values and are strongly reachable
+     * from in-flight fetches only, so queues of hosts without in-flight fetches are released
+     */
+    private final Map<String, HostFetchQueue> hostFetchQueues = new MapMaker().weakValues().makeMap();
 
     /**
-     * Reads open api file.
+     * Constructor with parameters.
      *
-     * @param multipartFile - json file
+     * @param appProperties           - app properties
+     * @param openApiObjectMapper     - open api object mapper
+     * @param openApiYamlObjectMapper - open api yaml object mapper
+     * @param openApiReaderExecutor   - executor for concurrent open api docs fetching
+     * @param webClientRegistry       - shared web clients registry
+     * @param openApiSpecCache        - open api docs cache
+     * @param openApiCanonicalizer    - open api model canonicalizer
+     */
+    public OpenApiReader(AppProperties appProperties,
+                         ObjectMapper openApiObjectMapper,
+                         @Qualifier("openApiYamlObjectMapper") ObjectMapper openApiYamlObjectMapper,
+                         @Qualifier("openApiReaderExecutor") ThreadPoolTaskExecutor openApiReaderExecutor,
+                         WebClientRegistry webClientRegistry,
+                         OpenApiSpecCache openApiSpecCache,
+                         OpenApiCanonicalizer openApiCanonicalizer) {
+        this.appProperties = appProperties;
+        this.openApiObjectMapper = openApiObjectMapper;
+        this.openApiYamlObjectMapper = openApiYamlObjectMapper;
+        this.openApiReaderExecutor = openApiReaderExecutor;
+        this.webClientRegistry = webClientRegistry;
+        this.openApiSpecCache = openApiSpecCache;
+        this.openApiCanonicalizer = openApiCanonicalizer;
+    }
+
+    /**
+     * Reads open api file. Json and yaml files are supported, both may be gzip compressed
+     * (json, json.gz, yaml, yaml.gz, yml, yml.gz). Compressed files are decoded as a stream, decoded size is limited
+     * by max. body size. Files larger than memory threshold are written to spill directory by servlet container,
+     * such files are parsed as a stream from container spill file without copying, so heap usage doesn't depend
+     * on uploaded file size. File is not consumed and can be read again after this call.
+     *
+     * @param multipartFile - open api file
      * @return open api dto model
      */
     public OpenAPI read(MultipartFile multipartFile) {
         log.info("Starting to read file [{}]", multipartFile.getOriginalFilename());
-        String fileExtension = FilenameUtils.getExtension(multipartFile.getOriginalFilename());
-        if (StringUtils.isEmpty(fileExtension) || !fileExtension.equals(JSON_EXTENSION)) {
-            throw new InvalidFileExtensionException(String.format("Invalid file [%s] extension",
-                    multipartFile.getOriginalFilename()));
-        }
+        var fileFormat = getFileFormat(multipartFile.getOriginalFilename());
         try {
             @Cleanup var inputStream = multipartFile.getInputStream();
-            var openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+            var openApi = read(multipartFile.getOriginalFilename(), inputStream, fileFormat);
             log.info("File [{}] has been read", multipartFile.getOriginalFilename());
             return openApi;
         } catch (IOException ex) {
@@ -64,24 +128,88 @@ public class OpenApiReader {
     }
 
     /**
-     * Reads open api model from external resource.
+     * Checks that open api file has supported extension.
+     *
+     * @param multipartFile - open api file
+     */
+    public void checkFileExtension(MultipartFile multipartFile) {
+        getFileFormat(multipartFile.getOriginalFilename());
+    }
+
+    /**
+     * Checks that open api file name has supported extension.
+     *
+     * @param fileName - open api file name
+     * @return {@code true} if file extension is supported
+     */
+    public boolean isSupportedFile(String fileName) {
+        boolean gzip = GZIP_EXTENSION.equals(FilenameUtils.getExtension(fileName));
+        String fileExtension = FilenameUtils.getExtension(gzip ? FilenameUtils.removeExtension(fileName) : fileName);
+        return JSON_EXTENSION.equals(fileExtension) || YAML_EXTENSION.equals(fileExtension) ||
+                YML_EXTENSION.equals(fileExtension);
+    }
+
+    /**
+     * Reads open api file from input stream. Supports the same file formats as multipart files.
+     * Input stream is not bounded by multipart limits (for example zip archive entry), so its size
+     * is limited by max. body size.
+     *
+     * @param fileName    - open api file name
+     * @param inputStream - open api file input stream
+     * @return open api dto model
+     */
+    public OpenAPI read(String fileName, InputStream inputStream) {
+        log.info("Starting to read file [{}]", fileName);
+        var fileFormat = getFileFormat(fileName);
+        try {
+            long maxBodySize = appProperties.getOpenApiReader().getMaxBodySize().toBytes();
+            var openApi = read(fileName, new LimitedInputStream(inputStream, maxBodySize), fileFormat);
+            log.info("File [{}] has been read", fileName);
+            return openApi;
+        } catch (IOException ex) {
+            log.error("Error while read swagger json [{}]: {}", fileName, ex.getMessage());
+            throw new InvalidFileFormatException(String.format("Invalid file [%s] format", fileName));
+        }
+    }
+
+    /**
+     * Reads open api model from external resource. If open api docs are cached, conditional request is sent
+     * and cached open api model is reused in case of not modified response.
      *
      * @param openApiReportRequestDto - open api resource dto
      * @return open api model
      */
     public OpenAPI readOpenApi(OpenApiReportRequestDto openApiReportRequestDto) {
         log.info("Starting to read open api from [{}]", openApiReportRequestDto.getUrl());
-        var webClient = createWebClient(openApiReportRequestDto);
+        var cachedOpenApiSpec = openApiSpecCache.get(openApiReportRequestDto.getUrl()).orElse(null);
+        var webClient = webClientRegistry.getWebClient(openApiReportRequestDto.getUrl());
+        var apiDocsUri = UriComponentsBuilder.fromHttpUrl(openApiReportRequestDto.getUrl())
+                .path(API_DOCS_URL)
+                .build()
+                .toUri();
+        int maxBodySize = Math.toIntExact(appProperties.getOpenApiReader().getMaxBodySize().toBytes());
         try {
-            String openApiJson = webClient.get()
-                    .uri(API_DOCS_URL)
-                    .retrieve()
-                    .bodyToMono(String.class)
+            ResponseEntity<DataBuffer> response = webClient.get()
+                    .uri(apiDocsUri)
+                    .headers(httpHeaders -> setConditionalHeaders(httpHeaders, cachedOpenApiSpec))
+                    .exchangeToMono(clientResponse -> readResponse(clientResponse, maxBodySize))
                     .block();
-            Assert.notNull(openApiJson,
+            Assert.notNull(response,
+                    String.format("Expected not null response for url [%s]", openApiReportRequestDto.getUrl()));
+            if (cachedOpenApiSpec != null) {
+                boolean notModified = response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+                openApiSpecCache.registerRevalidation(notModified);
+                if (notModified) {
+                    log.info("Open api docs from [{}] has not been modified, cached open api model is used",
+                            openApiReportRequestDto.getUrl());
+                    return cachedOpenApiSpec.getOpenApi();
+                }
+            }
+            var openApiBody = response.getBody();
+            Assert.notNull(openApiBody,
                     String.format("Expected not null response for url [%s]", openApiReportRequestDto.getUrl()));
             log.info("Open api docs has been fetched from [{}]", openApiReportRequestDto.getUrl());
-            var openApi = openApiObjectMapper.readValue(openApiJson, OpenAPI.class);
+            var openApi = readOpenApi(openApiReportRequestDto.getUrl(), openApiBody, response.getHeaders());
             log.info("Open api model has been read for [{}]", openApiReportRequestDto.getUrl());
             return openApi;
         } catch (WebClientResponseException ex) {
@@ -89,6 +217,17 @@ public class OpenApiReader {
                     openApiReportRequestDto.getUrl(), ex.getResponseBodyAsString(), ex.getMessage());
             throw new ExternalIntegrationErrorException(String.format("Got [%d] code from [%s]",
                     ex.getRawStatusCode(), openApiReportRequestDto.getUrl()));
+        } catch (WebClientRequestException ex) {
+            log.error("Error while request open api docs from [{}]: {}", openApiReportRequestDto.getUrl(),
+                    ex.getMessage());
+            throw new ExternalIntegrationErrorException(
+                    String.format("Can't request open api docs from [%s]", openApiReportRequestDto.getUrl()));
+        } catch (DataBufferLimitException ex) {
+            log.error("Open api docs from [{}] exceeds max. body size [{}] bytes", openApiReportRequestDto.getUrl(),
+                    maxBodySize);
+            throw new ExternalIntegrationErrorException(
+                    String.format("Open api docs from [%s] exceeds max. body size [%d] bytes",
+                            openApiReportRequestDto.getUrl(), maxBodySize));
         } catch (IOException ex) {
             throw new InvalidFormatException(
                     String.format("Can't deserialize json for open api from resource [%s]",
@@ -96,18 +235,279 @@ public class OpenApiReader {
         }
     }
 
+    private void setConditionalHeaders(HttpHeaders httpHeaders, CachedOpenApiSpec cachedOpenApiSpec) {
+        if (cachedOpenApiSpec != null) {
+            if (cachedOpenApiSpec.getETag() != null) {
+                httpHeaders.setIfNoneMatch(cachedOpenApiSpec.getETag());
+            }
+            if (cachedOpenApiSpec.getLastModified() != null) {
+                httpHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, cachedOpenApiSpec.getLastModified());
+            }
+        }
+    }
+
+    private Mono<ResponseEntity<DataBuffer>> readResponse(ClientResponse clientResponse, int maxBodySize) {
+        if (clientResponse.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return clientResponse.releaseBody()
+                    .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+        }
+        if (clientResponse.statusCode().isError()) {
+            return clientResponse.createError();
+        }
+        return DataBufferUtils.join(clientResponse.bodyToFlux(DataBuffer.class), maxBodySize)
+                .map(body -> ResponseEntity.status(clientResponse.statusCode())
+                        .headers(clientResponse.headers().asHttpHeaders())
+                        .body(body));
+    }
+
+    private OpenAPI readOpenApi(String url, DataBuffer openApiBody, HttpHeaders httpHeaders) throws IOException {
+        var cachedOpenApiSpec = CachedOpenApiSpec.builder()
+                .url(url)
+                .eTag(httpHeaders.getETag())
+                .lastModified(httpHeaders.getFirst(HttpHeaders.LAST_MODIFIED))
+                .size(openApiBody.readableByteCount())
+                .yaml(isYaml(httpHeaders))
+                .build();
+        var objectMapper = getObjectMapper(cachedOpenApiSpec.isYaml());
+        byte[] rawBody = null;
+        if (openApiSpecCache.isRawBodyRequired() && cachedOpenApiSpec.hasValidators()) {
+            rawBody = new byte[openApiBody.readableByteCount()];
+            openApiBody.read(rawBody);
+            DataBufferUtils.release(openApiBody);
+            cachedOpenApiSpec.setOpenApi(
+                    openApiCanonicalizer.canonicalize(objectMapper.readValue(rawBody, OpenAPI.class)));
+        } else {
+            @Cleanup var inputStream = openApiBody.asInputStream(true);
+            cachedOpenApiSpec.setOpenApi(
+                    openApiCanonicalizer.canonicalize(objectMapper.readValue(inputStream, OpenAPI.class)));
+        }
+        openApiSpecCache.put(cachedOpenApiSpec, rawBody);
+        return cachedOpenApiSpec.getOpenApi();
+    }
+
     /**
-     * Reads open api models from external resources.
+     * Reads open api from input stream. Compressed stream is decoded with max. body size limit, because
+     * multipart size limits are applied to compressed bytes only.
+     *
+     * @param fileName    - open api file name
+     * @param inputStream - open api input stream
+     * @param fileFormat  - open api file format
+     * @return open api model
+     * @throws IOException in case of I/O error
+     */
+    private OpenAPI read(String fileName, InputStream inputStream, OpenApiFileFormat fileFormat) throws IOException {
+        long maxBodySize = appProperties.getOpenApiReader().getMaxBodySize().toBytes();
+        @Cleanup InputStream decodedInputStream = fileFormat.gzip() ?
+                new LimitedInputStream(new GZIPInputStream(inputStream), maxBodySize) : inputStream;
+        try {
+            var openApi = getObjectMapper(fileFormat.yaml()).readValue(decodedInputStream, OpenAPI.class);
+            return openApiCanonicalizer.canonicalize(openApi);
+        } catch (MaxSizeExceededException ex) {
+            log.error("File [{}] exceeds max. size [{}] bytes", fileName, ex.getMaxSize());
+            throw new InvalidFileFormatException(
+                    String.format("File [%s] exceeds max. size [%d] bytes", fileName, ex.getMaxSize()));
+        }
+    }
+
+    private boolean isYaml(HttpHeaders httpHeaders) {
+        return Optional.ofNullable(httpHeaders.getContentType())
+                .map(contentType -> contentType.getSubtype().contains(YAML_MEDIA_SUBTYPE))
+                .orElse(false);
+    }
+
+    private ObjectMapper getObjectMapper(boolean yaml) {
+        return yaml ? openApiYamlObjectMapper : openApiObjectMapper;
+    }
+
+    private OpenApiFileFormat getFileFormat(String fileName) {
+        boolean gzip = GZIP_EXTENSION.equals(FilenameUtils.getExtension(fileName));
+        String fileExtension = FilenameUtils.getExtension(gzip ? FilenameUtils.removeExtension(fileName) : fileName);
+        if (JSON_EXTENSION.equals(fileExtension)) {
+            return new OpenApiFileFormat(false, gzip);
+        } else if (YAML_EXTENSION.equals(fileExtension) || YML_EXTENSION.equals(fileExtension)) {
+            return new OpenApiFileFormat(true, gzip);
+        }
+        throw new InvalidFileExtensionException(String.format("Invalid file [%s] extension", fileName));
+    }
+
+    /**
+     * Reads open api models from external resources. Open api docs are fetched concurrently if
+     * concurrent fetch mode is enabled, the result list always keeps the order of the resources list.
      *
      * @param openApiResources - open api resource dto
      * @return open api models list
      */
     public List<OpenAPI> readOpenApis(List<OpenApiReportRequestDto> openApiResources) {
         log.info("Starting to read [{}] open api docs", openApiResources.size());
-        var openApis = openApiResources.stream()
-                .map(this::readOpenApi)
-                .collect(Collectors.toList());
+        List<OpenAPI> openApis;
+        if (appProperties.getOpenApiReader().isConcurrentFetchEnabled() && openApiResources.size() > 1) {
+            openApis = readOpenApisConcurrently(openApiResources);
+        } else {
+            openApis = openApiResources.stream()
+                    .map(this::readOpenApi)
+                    .collect(Collectors.toList());
+        }
         log.info("[{}] open apis has been read", openApis.size());
         return openApis;
     }
+
+    /**
+     * Submits open api docs fetching tasks. Tasks are queued by host and started on the shared reader executor
+     * once host permit is available, so the caller thread never waits for busy hosts and fetches from other hosts
+     * are not delayed. Host permit is bound to the started fetch and released on its completion, fetches cancelled
+     * before start are skipped without taking a permit.
+     *
+     * @param openApiResources - open api resources
+     * @return open api models list
+     */
+    private List<OpenAPI> readOpenApisConcurrently(List<OpenApiReportRequestDto> openApiResources) {
+        List<CompletableFuture<OpenAPI>> futures = new ArrayList<>(openApiResources.size());
+        try {
+            for (var openApiReportRequestDto : openApiResources) {
+                futures.add(submitReadOpenApi(openApiReportRequestDto));
+            }
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        } catch (RuntimeException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+    }
+
+    private CompletableFuture<OpenAPI> submitReadOpenApi(OpenApiReportRequestDto openApiReportRequestDto) {
+        var hostFetchQueue = hostFetchQueues.computeIfAbsent(getHost(openApiReportRequestDto),
+                host -> new HostFetchQueue(appProperties.getOpenApiReader().getMaxConcurrencyPerHost()));
+        var future = new CompletableFuture<OpenAPI>();
+        hostFetchQueue.add(new PendingFetch(openApiReportRequestDto, future));
+        startFetches(hostFetchQueue);
+        return future;
+    }
+
+    private void startFetches(HostFetchQueue hostFetchQueue) {
+        PendingFetch pendingFetch;
+        while ((pendingFetch = hostFetchQueue.poll()) != null) {
+            startFetch(hostFetchQueue, pendingFetch);
+        }
+    }
+
+    private void startFetch(HostFetchQueue hostFetchQueue, PendingFetch pendingFetch) {
+        var future = pendingFetch.future();
+        try {
+            CompletableFuture.supplyAsync(() -> readOpenApi(pendingFetch.openApiReportRequestDto()),
+                            openApiReaderExecutor)
+                    .whenComplete((openApi, ex) -> {
+                        hostFetchQueue.release();
+                        startFetches(hostFetchQueue);
+                        if (ex != null) {
+                            future.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+                        } else {
+                            future.complete(openApi);
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            hostFetchQueue.release();
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private String getHost(OpenApiReportRequestDto openApiReportRequestDto) {
+        return UriComponentsBuilder.fromHttpUrl(openApiReportRequestDto.getUrl()).build().getHost();
+    }
+
+    /**
+     * Open api file format.
+     *
+     * @param yaml - is yaml file?
+     * @param gzip - is gzip compressed file?
+     */
+    private record OpenApiFileFormat(boolean yaml, boolean gzip) {
+    }
+
+    /**
+     * Open api docs fetch waiting for host permit.
+     *
+     * @param openApiReportRequestDto - open api resource dto
+     * @param future                  - fetch result future
+     */
+    private record PendingFetch(OpenApiReportRequestDto openApiReportRequestDto, CompletableFuture<OpenAPI> future) {
+    }
+
+    /**
+     * Queue of open api docs fetches from the same host. Fetch is polled from the queue only together with
+     * host permit, fetches completed (cancelled) while waiting in the queue are skipped.
+     */
+    private static class HostFetchQueue {
+
+        final int maxConcurrency;
+        final Queue<PendingFetch> pendingFetches = new ArrayDeque<>();
+        int activeFetches;
+
+        HostFetchQueue(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        synchronized void add(PendingFetch pendingFetch) {
+            pendingFetches.add(pendingFetch);
+        }
+
+        synchronized PendingFetch poll() {
+            while (activeFetches < maxConcurrency && !pendingFetches.isEmpty()) {
+                var pendingFetch = pendingFetches.poll();
+                if (!pendingFetch.future().isDone()) {
+                    activeFetches++;
+                    return pendingFetch;
+                }
+            }
+            return null;
+        }
+
+        synchronized void release() {
+            activeFetches--;
+        }
+    }
+
+    /**
+     * Input stream failing with {@link MaxSizeExceededException} once max. size has been read.
+     */
+    private static class LimitedInputStream extends ProxyInputStream {
+
+        final long maxSize;
+        long count;
+
+        LimitedInputStream(InputStream inputStream, long maxSize) {
+            super(inputStream);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected void afterRead(int n) throws IOException {
+            if (n > 0) {
+                count += n;
+                if (count > maxSize) {
+                    throw new MaxSizeExceededException(maxSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Exception thrown when input stream exceeds max. size.
+     */
+    private static class MaxSizeExceededException extends IOException {
+
+        @Getter
+        final long maxSize;
+
+        MaxSizeExceededException(long maxSize) {
+            super(String.format("Max. size [%d] bytes has been exceeded", maxSize));
+            this.maxSize = maxSize;
+        }
+    }
 }
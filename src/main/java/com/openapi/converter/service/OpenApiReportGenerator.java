@@ -5,9 +5,9 @@ import com.openapi.converter.dto.openapi.OpenAPI;
 import lombok.Cleanup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -48,17 +48,16 @@ public class OpenApiReportGenerator {
         log.info("Starting to generate open api reports zip archive");
         Map<String, Integer> reportNamesCounter = newHashMap();
         @Cleanup var zipOutputStream = new ZipOutputStream(outputStream);
-        @Cleanup var writer = new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8);
+        @Cleanup var writer = new BufferedWriter(new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8));
         for (int i = 0; i < openApiReportRequests.size(); i++) {
             log.info("Starting to generate report with index [{}]", i);
             var apiReportRequestDto = openApiReportRequests.get(i);
             String fileName = generateFileName(apiReportRequestDto, reportNamesCounter);
             zipOutputStream.putNextEntry(new ZipEntry(fileName));
             var openApi = openApis.get(i);
-            String reportString = openApiReportProcessor.processAsciiDocReport(openApi);
-            log.info("Report with index [{}] has been generated", i);
-            IOUtils.write(reportString, writer);
+            openApiReportProcessor.prepareAsciiDocReport(openApi).write(writer);
             writer.flush();
+            log.info("Report with index [{}] has been generated", i);
             zipOutputStream.flush();
             zipOutputStream.closeEntry();
             log.info("Report with index [{}] has been put into archive", i);
@@ -2,7 +2,9 @@ package com.openapi.converter.service;
 
 import com.openapi.converter.config.AppProperties;
 import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.report.AsciiDocReportWriter;
 import com.openapi.converter.service.template.TemplateProcessorService;
+import com.openapi.converter.service.view.OpenApiViewFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,19 +27,31 @@ public class OpenApiReportProcessor {
     private final AppProperties appProperties;
     private final OpenApiReportService openApiReportService;
     private final TemplateProcessorService templateProcessorService;
+    private final OpenApiViewFactory openApiViewFactory;
 
     /**
-     * Processes open api report in adoc format.
+     * Prepares open api report in adoc format: builds report model or open api view, if open api view is enabled.
+     * Returned report writer renders report template straight into target writer, so errors of report model
+     * building are thrown before report writing is started.
      *
      * @param openAPI - open api dto
-     * @return report string
+     * @return report writer
      */
-    public String processAsciiDocReport(OpenAPI openAPI) {
+    public AsciiDocReportWriter prepareAsciiDocReport(OpenAPI openAPI) {
+        if (appProperties.getReport().isOpenApiViewEnabled()) {
+            var openApiView = openApiViewFactory.createOpenApiView(openAPI);
+            return prepareAsciiDocReport(openApiView.getTitle(), openApiView);
+        }
         var openApiReport = openApiReportService.buildReport(openAPI);
-        Map<String, Object> variables = Collections.singletonMap(OPEN_API_VARIABLE_NAME, openApiReport);
-        log.info("Starting to generate open api report [{}]", openApiReport.getTitle());
-        String report = templateProcessorService.process(appProperties.getTemplateLocation(), variables);
-        log.info("Open api report has been generated [{}]", openApiReport.getTitle());
-        return report;
+        return prepareAsciiDocReport(openApiReport.getTitle(), openApiReport);
+    }
+
+    private AsciiDocReportWriter prepareAsciiDocReport(String title, Object openApiModel) {
+        Map<String, Object> variables = Collections.singletonMap(OPEN_API_VARIABLE_NAME, openApiModel);
+        return writer -> {
+            log.info("Starting to write open api report [{}]", title);
+            templateProcessorService.process(appProperties.getTemplateLocation(), variables, writer);
+            log.info("Open api report has been written [{}]", title);
+        };
     }
 }
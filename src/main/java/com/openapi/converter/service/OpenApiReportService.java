@@ -1,11 +1,13 @@
 package com.openapi.converter.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.config.ReportProperties;
 import com.openapi.converter.dto.openapi.ApiResponse;
 import com.openapi.converter.dto.openapi.Components;
 import com.openapi.converter.dto.openapi.Info;
-import com.openapi.converter.dto.openapi.MediaType;
 import com.openapi.converter.dto.openapi.Oauth2Flow;
 import com.openapi.converter.dto.openapi.OpenAPI;
 import com.openapi.converter.dto.openapi.Operation;
@@ -23,25 +25,38 @@ import com.openapi.converter.model.report.RequestBodyReport;
 import com.openapi.converter.model.report.SchemaReport;
 import com.openapi.converter.model.report.SecurityRequirementReport;
 import com.openapi.converter.model.report.SecuritySchemaReport;
+import com.openapi.converter.service.example.ExampleReports;
+import com.openapi.converter.service.example.ExampleSerializer;
+import com.openapi.converter.service.field.SchemaFieldResolver;
+import com.openapi.converter.service.reference.RefIndex;
+import com.openapi.converter.service.reference.RefIndexService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.openapi.converter.util.Utils.getOperation;
 
 /**
- * Open api report service.
+ * Open api report service. Large open api reports are built in parallel on dedicated fork join pool: methods,
+ * components and security schemes reports are built concurrently and methods and components are split further
+ * by paths and component schemas, preserving paths and schemas order.
  *
  * @author Roman batygin
  */
@@ -54,22 +69,36 @@ public class OpenApiReportService {
     private static final String IMPLICIT_GRANT = "implicit";
     private static final String AUTHORIZATION_CODE_GRANT = "authorization_code";
     private static final String CLIENT_CREDENTIALS_GRANT = "client_credentials";
-    private static final int ALL_OF_SIZE = 2;
-    private static final int CHILD_SCHEMA_IDX = 1;
 
     private final OpenApiMapper openApiMapper;
-    private final ObjectMapper exampleObjectMapper;
+    private final ExampleSerializer exampleSerializer;
+    private final RefIndexService refIndexService;
+    private final ReportProperties reportProperties;
+    private final ForkJoinPool reportForkJoinPool;
+    private final Cache<SchemaReportKey, SchemaReport> sharedSchemaReports;
 
     /**
      * Constructor with parameters.
      *
      * @param openApiMapper       - open api mapper
-     * @param exampleObjectMapper example object mapper
+     * @param exampleSerializer   - example serializer
+     * @param refIndexService     - references index service
+     * @param appProperties       - app properties
+     * @param reportForkJoinPool  - fork join pool for parallel report build
      */
     public OpenApiReportService(OpenApiMapper openApiMapper,
-                                @Qualifier("exampleObjectMapper") ObjectMapper exampleObjectMapper) {
+                                ExampleSerializer exampleSerializer,
+                                RefIndexService refIndexService,
+                                AppProperties appProperties,
+                                @Qualifier("reportForkJoinPool") ForkJoinPool reportForkJoinPool) {
         this.openApiMapper = openApiMapper;
-        this.exampleObjectMapper = exampleObjectMapper;
+        this.exampleSerializer = exampleSerializer;
+        this.refIndexService = refIndexService;
+        this.reportProperties = appProperties.getReport();
+        this.reportForkJoinPool = reportForkJoinPool;
+        this.sharedSchemaReports = reportProperties.isSchemaReportCacheEnabled() ? CacheBuilder.newBuilder()
+                .maximumSize(reportProperties.getSchemaReportCacheMaxSize())
+                .build() : null;
     }
 
     /**
@@ -84,45 +113,75 @@ public class OpenApiReportService {
                 .orElse(null);
         log.info("Starting to build open api report [{}]", title);
         OpenApiReport openApiReport = openApiMapper.map(openAPI);
-        var methods = buildMethodsReport(openAPI);
-        var components = buildComponents(openAPI);
-        var securitySchemes = buildSecuritySchemesReports(openAPI);
-        openApiReport.setMethods(methods);
-        openApiReport.setComponents(components);
-        openApiReport.setSecuritySchemes(securitySchemes);
+        var refIndex = refIndexService.getRefIndex(openAPI);
+        boolean parallel = isParallel(openAPI);
+        var context = new ReportContext(refIndex, parallel, new ExampleReports(refIndex, exampleSerializer, parallel));
+        if (context.parallel) {
+            log.info("Open api report [{}] will be built in parallel", title);
+            var methodsTask = reportForkJoinPool.submit(() -> buildMethodsReport(openAPI, context));
+            var componentsTask = reportForkJoinPool.submit(() -> buildComponents(openAPI, context));
+            openApiReport.setSecuritySchemes(buildSecuritySchemesReports(openAPI));
+            openApiReport.setMethods(methodsTask.join());
+            openApiReport.setComponents(componentsTask.join());
+        } else {
+            openApiReport.setMethods(buildMethodsReport(openAPI, context));
+            openApiReport.setComponents(buildComponents(openAPI, context));
+            openApiReport.setSecuritySchemes(buildSecuritySchemesReports(openAPI));
+        }
         log.info("Open api report [{}] has been built", title);
         return openApiReport;
     }
 
-    private List<MethodInfo> buildMethodsReport(OpenAPI openAPI) {
+    private List<MethodInfo> buildMethodsReport(OpenAPI openAPI, ReportContext context) {
         var paths = Optional.ofNullable(openAPI.getPaths()).orElse(Collections.emptyMap());
-        var methods = paths.entrySet()
-                .stream()
-                .map(entry -> buildMethodInfo(entry, openAPI))
+        var methods = stream(paths.entrySet(), context)
+                .map(entry -> buildMethodInfo(entry, context))
                 .collect(Collectors.toList());
         log.info("[{}] methods report has been build", methods.size());
         return methods;
     }
 
-    private List<ComponentReport> buildComponents(OpenAPI openAPI) {
+    private List<ComponentReport> buildComponents(OpenAPI openAPI, ReportContext context) {
         if (Optional.ofNullable(openAPI.getComponents()).isEmpty() ||
                 CollectionUtils.isEmpty(openAPI.getComponents().getSchemas())) {
             return Collections.emptyList();
         }
-        var componentReports = openAPI.getComponents().getSchemas()
-                .entrySet()
-                .stream()
-                .map(entry -> buildComponentReport(entry.getKey(), entry.getValue(),
-                        openAPI.getComponents().getSchemas()))
+        var componentReports = stream(openAPI.getComponents().getSchemas().entrySet(), context)
+                .map(entry -> buildComponentReport(entry.getKey(), entry.getValue(), context))
                 .collect(Collectors.toList());
         log.info("[{}] components report has been built", componentReports.size());
         return componentReports;
     }
 
+    private boolean isParallel(OpenAPI openAPI) {
+        if (!reportProperties.isParallelEnabled()) {
+            return false;
+        }
+        int pathsCount = Optional.ofNullable(openAPI.getPaths()).map(Map::size).orElse(0);
+        int schemasCount = Optional.ofNullable(openAPI.getComponents())
+                .map(Components::getSchemas)
+                .map(Map::size)
+                .orElse(0);
+        return pathsCount + schemasCount >= reportProperties.getParallelThreshold();
+    }
+
+    /**
+     * Creates parallel stream for parallel report build, otherwise sequential stream. Parallel stream created
+     * in report fork join pool task is processed by the same pool and keeps collection encounter order.
+     *
+     * @param items   - collection items
+     * @param context - report context
+     * @param <T>     - item generic type
+     * @return items stream
+     */
+    private <T> Stream<T> stream(Collection<T> items, ReportContext context) {
+        return context.parallel ? items.parallelStream() : items.stream();
+    }
+
     @SuppressWarnings("unchecked")
-    private ComponentReport buildComponentReport(String name, Schema schema, Map<String, Schema> schemas) {
-        List<FieldReport> fields = buildFieldReports(schema, schemas);
-        log.info("[{}] fields has been built for component [{}]", fields.size(), name);
+    private ComponentReport buildComponentReport(String name, Schema schema, ReportContext context) {
+        List<FieldReport> fields = context.schemaFields.getFields(schema);
+        log.debug("[{}] fields has been built for component [{}]", fields.size(), name);
         return ComponentReport.builder()
                 .name(name)
                 .description(schema.getDescription())
@@ -130,80 +189,8 @@ public class OpenApiReportService {
                 .build();
     }
 
-    private List<FieldReport> buildSimpleFieldReports(Schema schema, List<String> requiredFields) {
-        return schema.getProperties().entrySet()
-                .stream()
-                .map(entry -> buildFieldModel(entry.getKey(),
-                        requiredFields.contains(entry.getKey()), entry.getValue()))
-                .collect(Collectors.toList());
-    }
-
-    private List<FieldReport> buildSimpleFieldReports(Schema schema) {
-        var requiredFields = Optional.ofNullable(schema.getRequired())
-                .orElse(Collections.emptyList());
-        return buildSimpleFieldReports(schema, requiredFields);
-    }
-
-    private List<FieldReport> buildAllOfFieldReports(Schema schema, Map<String, Schema> schemas) {
-        Schema child = schema.getAllOf().get(CHILD_SCHEMA_IDX);
-        List<FieldReport> fieldReports = newArrayList();
-        Stack<Schema> parentSchemas = getAllParentSchema(schema, schemas);
-        while (!parentSchemas.isEmpty()) {
-            Schema next = parentSchemas.pop();
-            var nextFields = buildSimpleFieldReports(next)
-                    .stream()
-                    .filter(fieldReport -> fieldReports.stream().noneMatch(
-                            f -> f.getFieldName().equals(fieldReport.getFieldName())))
-                    .collect(Collectors.toList());
-            fieldReports.addAll(nextFields);
-        }
-        var requiredFields = Optional.ofNullable(schema.getRequired()).orElse(Collections.emptyList());
-        var childFields = buildSimpleFieldReports(child, requiredFields);
-        fieldReports.addAll(childFields);
-        return fieldReports;
-    }
-
-    private Stack<Schema> getAllParentSchema(Schema schema, Map<String, Schema> schemas) {
-        Schema current = schema.getAllOf().iterator().next();
-        Stack<Schema> stack = new Stack<>();
-        do {
-            Schema nextParentSchema = getNextParentSchema(current, schemas);
-            if (nextParentSchema != null) {
-                stack.push(nextParentSchema);
-            }
-            if (!CollectionUtils.isEmpty(nextParentSchema.getAllOf()) &&
-                    nextParentSchema.getAllOf().size() >= ALL_OF_SIZE) {
-                current = nextParentSchema.getAllOf().iterator().next();
-            } else {
-                current = null;
-            }
-        } while (current != null);
-        return stack;
-    }
-
-    private Schema getNextParentSchema(Schema schema, Map<String, Schema> schemas) {
-        String schemaRef = StringUtils.substringAfterLast(schema.getRef(), SLASH_SEPARATOR);
-        return schemas.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().equals(schemaRef))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-
-    }
-
-    private List<FieldReport> buildFieldReports(Schema schema, Map<String, Schema> schemas) {
-        if (!CollectionUtils.isEmpty(schema.getProperties())) {
-            return buildSimpleFieldReports(schema);
-        } else if (!CollectionUtils.isEmpty(schema.getAllOf()) && schema.getAllOf().size() >= ALL_OF_SIZE) {
-            return buildAllOfFieldReports(schema, schemas);
-        } else {
-            return Collections.emptyList();
-        }
-    }
-
-    private FieldReport buildFieldModel(String fieldName, boolean required, Schema schema) {
-        SchemaReport schemaReport = buildSchemaReport(schema);
+    private FieldReport buildFieldModel(String fieldName, boolean required, Schema schema, ReportContext context) {
+        SchemaReport schemaReport = getSchemaReport(schema, context);
         return FieldReport.builder()
                 .fieldName(fieldName)
                 .description(schemaReport.getDescription())
@@ -212,6 +199,36 @@ public class OpenApiReportService {
                 .build();
     }
 
+    /**
+     * Gets schema report. Schema reports are shared within report build by schema identity or by reference for
+     * equal schemas with the same reference and, if enabled, across report builds for schemas with equal
+     * {@link SchemaReportKey}.
+     *
+     * @param schema  - schema
+     * @param context - report context
+     * @return schema report
+     */
+    private SchemaReport getSchemaReport(Schema schema, ReportContext context) {
+        if (schema == null) {
+            return null;
+        }
+        var schemaReport = context.getSchemaReport(schema);
+        if (schemaReport == null) {
+            if (sharedSchemaReports != null) {
+                var schemaReportKey = SchemaReportKey.of(schema, getBodyRefs(schema.getOneOf()));
+                schemaReport = sharedSchemaReports.getIfPresent(schemaReportKey);
+                if (schemaReport == null) {
+                    schemaReport = buildSchemaReport(schema);
+                    sharedSchemaReports.put(schemaReportKey, schemaReport);
+                }
+            } else {
+                schemaReport = buildSchemaReport(schema);
+            }
+            context.putSchemaReport(schema, schemaReport);
+        }
+        return schemaReport;
+    }
+
     private SchemaReport buildSchemaReport(Schema schema) {
         return Optional.ofNullable(schema)
                 .map(s -> {
@@ -235,15 +252,15 @@ public class OpenApiReportService {
         return schemaItemsReports;
     }
 
-    private MethodInfo buildMethodInfo(Map.Entry<String, PathItem> entry, OpenAPI openAPI) {
+    private MethodInfo buildMethodInfo(Map.Entry<String, PathItem> entry, ReportContext context) {
         var operationModel = getOperation(entry.getValue())
                 .orElseThrow(() -> new OperationNotSpecifiedException(
                         String.format("Operation not specified for endpoint [%s]", entry.getKey())));
         var operation = operationModel.getOperation();
         var requestParameters = openApiMapper.map(operation.getParameters());
-        var apiResponses = buildApiResponsesReport(operation, openAPI);
-        log.info("[{}] api responses has been built for method [{}]", apiResponses.size(), entry.getKey());
-        var requestBodyModel = buildRequestBodyReport(operation, openAPI);
+        var apiResponses = buildApiResponsesReport(operation, context);
+        log.debug("[{}] api responses has been built for method [{}]", apiResponses.size(), entry.getKey());
+        var requestBodyModel = buildRequestBodyReport(operation, context);
         var securityRequirementModel = buildSecurityRequirementReports(operation);
         return MethodInfo.builder()
                 .requestType(operationModel.getRequestMethod().name())
@@ -272,35 +289,36 @@ public class OpenApiReportService {
         return securityRequirementReports;
     }
 
-    private RequestBodyReport buildRequestBodyReport(Operation operation, OpenAPI openAPI) {
+    private RequestBodyReport buildRequestBodyReport(Operation operation, ReportContext context) {
         return Optional.ofNullable(operation.getRequestBody())
                 .map(requestBody -> {
                     RequestBodyReport requestBodyReport = openApiMapper.map(requestBody);
                     if (!CollectionUtils.isEmpty(requestBody.getContent())) {
                         var mediaType = requestBody.getContent().entrySet().iterator().next();
                         var schema = mediaType.getValue().getSchema();
-                        var schemaReport = buildSchemaReport(schema);
+                        var schemaReport = getSchemaReport(schema, context);
                         requestBodyReport.setContentType(mediaType.getKey());
                         requestBodyReport.setSchema(schemaReport);
-                        var schemaReports = buildFieldReports(schema, Collections.emptyMap());
+                        var schemaReports = context.schemaFields.getFields(schema);
                         requestBodyReport.setSchemaProperties(schemaReports);
-                        requestBodyReport.setExample(getExampleAsJsonString(mediaType.getValue(), openAPI));
+                        requestBodyReport.setExample(context.exampleReports.getExampleReport(mediaType.getValue()));
                     }
                     return requestBodyReport;
                 }).orElse(null);
     }
 
-    private List<ApiResponseReport> buildApiResponsesReport(Operation operation, OpenAPI openAPI) {
+    private List<ApiResponseReport> buildApiResponsesReport(Operation operation, ReportContext context) {
         if (CollectionUtils.isEmpty(operation.getResponses())) {
             return Collections.emptyList();
         }
         return operation.getResponses().entrySet()
                 .stream()
-                .map(entry -> buildApiResponseReport(entry.getKey(), entry.getValue(), openAPI))
+                .map(entry -> buildApiResponseReport(entry.getKey(), entry.getValue(), context))
                 .collect(Collectors.toList());
     }
 
-    private ApiResponseReport buildApiResponseReport(String responseCode, ApiResponse apiResponse, OpenAPI openAPI) {
+    private ApiResponseReport buildApiResponseReport(String responseCode, ApiResponse apiResponse,
+                                                     ReportContext context) {
         ApiResponseReport apiResponseReport = new ApiResponseReport();
         apiResponseReport.setResponseCode(responseCode);
         apiResponseReport.setDescription(apiResponse.getDescription());
@@ -308,8 +326,8 @@ public class OpenApiReportService {
             var mediaType = apiResponse.getContent().entrySet().iterator().next();
             var schema = mediaType.getValue().getSchema();
             apiResponseReport.setContentType(mediaType.getKey());
-            apiResponseReport.setExample(getExampleAsJsonString(mediaType.getValue(), openAPI));
-            var schemaReport = buildSchemaReport(schema);
+            apiResponseReport.setExample(context.exampleReports.getExampleReport(mediaType.getValue()));
+            var schemaReport = getSchemaReport(schema, context);
             apiResponseReport.setSchema(schemaReport);
         }
         return apiResponseReport;
@@ -322,49 +340,6 @@ public class OpenApiReportService {
                 .orElse(null);
     }
 
-    private String getExampleAsJsonString(MediaType mediaType, OpenAPI openAPI) {
-        Object exampleValue = getExampleValue(mediaType, openAPI);
-        return convertExampleToJsonString(exampleValue);
-    }
-
-    private Object getExampleValue(MediaType mediaType, OpenAPI openAPI) {
-        if (!CollectionUtils.isEmpty(mediaType.getExamples())) {
-            var example = mediaType.getExamples().values().iterator().next();
-            if (StringUtils.isNotEmpty(example.getRef())) {
-                String exampleKey = StringUtils.substringAfterLast(example.getRef(), SLASH_SEPARATOR);
-                return getExampleValueByKey(exampleKey, openAPI);
-            } else if (example.getValue() != null) {
-                return example.getValue();
-            }
-        }
-        return mediaType.getExample();
-    }
-
-    private Object getExampleValueByKey(String key, OpenAPI openAPI) {
-        if (Optional.ofNullable(openAPI.getComponents()).isPresent() &&
-                !CollectionUtils.isEmpty(openAPI.getComponents().getExamples())) {
-            var example = openAPI.getComponents().getExamples().get(key);
-            if (example == null) {
-                log.warn("Can't find example with key [{}]", key);
-            } else {
-                return example.getValue();
-            }
-        }
-        return null;
-    }
-
-    private String convertExampleToJsonString(Object exampleValue) {
-        if (exampleValue == null) {
-            return null;
-        }
-        try {
-            return exampleObjectMapper.writeValueAsString(exampleValue);
-        } catch (JsonProcessingException ex) {
-            log.error("Can't serialize example to json: {}", ex.getMessage());
-            return String.valueOf(exampleValue);
-        }
-    }
-
     private List<SecuritySchemaReport> buildSecuritySchemesReports(OpenAPI openAPI) {
         if (Optional.ofNullable(openAPI.getComponents()).map(Components::getSecuritySchemes).isEmpty()) {
             return Collections.emptyList();
@@ -406,11 +381,117 @@ public class OpenApiReportService {
     }
 
     private List<String> buildOneOfRefs(Schema schema) {
-        if (CollectionUtils.isEmpty(schema.getOneOf())) {
+        return getBodyRefs(schema.getOneOf());
+    }
+
+    private List<String> getBodyRefs(List<Schema> schemas) {
+        if (CollectionUtils.isEmpty(schemas)) {
             return Collections.emptyList();
         }
-        return schema.getOneOf().stream()
+        return schemas.stream()
                 .map(this::getBodyRef)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Schema fields mapped to schema report.
+     */
+    private record SchemaFields(String description, String type, String format, String ref, BigDecimal maximum,
+                                Boolean exclusiveMaximum, BigDecimal minimum, Boolean exclusiveMinimum,
+                                Integer maxLength, Integer minLength, String pattern, Integer maxItems,
+                                Integer minItems, List<String> enums) {
+
+        static SchemaFields of(Schema schema) {
+            var enums = Optional.ofNullable(schema.getEnums())
+                    .map(values -> Collections.unmodifiableList(new ArrayList<>(values)))
+                    .orElse(null);
+            return new SchemaFields(schema.getDescription(), schema.getType(), schema.getFormat(), schema.getRef(),
+                    schema.getMaximum(), schema.getExclusiveMaximum(), schema.getMinimum(),
+                    schema.getExclusiveMinimum(), schema.getMaxLength(), schema.getMinLength(), schema.getPattern(),
+                    schema.getMaxItems(), schema.getMinItems(), enums);
+        }
+    }
+
+    /**
+     * Schema reports cache key. Key is an immutable snapshot of only those schema values which are read
+     * by schema report build, so it is not affected by later changes of open api model and is not compared
+     * by the whole schema graph.
+     *
+     * @param fields    - schema fields
+     * @param oneOfRefs - one of schemas references
+     * @param items     - items chain fields
+     */
+    private record SchemaReportKey(SchemaFields fields, List<String> oneOfRefs, List<SchemaFields> items) {
+
+        static SchemaReportKey of(Schema schema, List<String> oneOfRefs) {
+            List<SchemaFields> items = new ArrayList<>();
+            for (var itemsSchema = schema.getItems(); itemsSchema != null; itemsSchema = itemsSchema.getItems()) {
+                items.add(SchemaFields.of(itemsSchema));
+            }
+            return new SchemaReportKey(SchemaFields.of(schema), Collections.unmodifiableList(oneOfRefs),
+                    Collections.unmodifiableList(items));
+        }
+    }
+
+    /**
+     * Report context of single open api report build. Context of parallel report build uses concurrent maps:
+     * the same schema may be built concurrently by several threads, but equal results are built in that case,
+     * so any of them is kept.
+     */
+    private class ReportContext {
+
+        final RefIndex refIndex;
+        final boolean parallel;
+        final SchemaFieldResolver<FieldReport> schemaFields;
+
+        final Map<Schema, SchemaReport> schemaReports;
+        final Map<String, Schema> refSchemas;
+
+        final ExampleReports exampleReports;
+
+        ReportContext(RefIndex refIndex, boolean parallel, ExampleReports exampleReports) {
+            this.refIndex = refIndex;
+            this.parallel = parallel;
+            this.schemaFields = new SchemaFieldResolver<>(refIndex,
+                    (name, required, schema) -> buildFieldModel(name, required, schema, this),
+                    FieldReport::getFieldName, parallel);
+            this.schemaReports = newIdentityMap(parallel);
+            this.refSchemas = parallel ? new ConcurrentHashMap<>() : new HashMap<>();
+            this.exampleReports = exampleReports;
+        }
+
+        SchemaReport getSchemaReport(Schema schema) {
+            var schemaReport = schemaReports.get(schema);
+            if (schemaReport == null && schema.getRef() != null) {
+                //Schemas with the same reference are usually equal, but not the same instances
+                var refSchema = refSchemas.get(schema.getRef());
+                if (refSchema != null && refSchema.equals(schema)) {
+                    schemaReport = schemaReports.get(refSchema);
+                    if (schemaReport != null) {
+                        schemaReports.put(schema, schemaReport);
+                    }
+                }
+            }
+            return schemaReport;
+        }
+
+        void putSchemaReport(Schema schema, SchemaReport schemaReport) {
+            schemaReports.put(schema, schemaReport);
+            if (schema.getRef() != null) {
+                refSchemas.putIfAbsent(schema.getRef(), schema);
+            }
+        }
+
+        /**
+         * Creates map with keys identity comparison. Concurrent map with weak keys is used for parallel build,
+         * because weak keys are compared by identity.
+         *
+         * @param parallel - parallel report build?
+         * @param <V>      - value generic type
+         * @return identity map
+         */
+        static <V> Map<Schema, V> newIdentityMap(boolean parallel) {
+            return parallel ? new MapMaker().weakKeys().makeMap() : new IdentityHashMap<>();
+        }
+    }
 }
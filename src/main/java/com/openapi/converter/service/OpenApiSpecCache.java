@@ -0,0 +1,254 @@
+package com.openapi.converter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.hash.Hashing;
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.model.cache.CachedOpenApiSpec;
+import com.openapi.converter.util.Utils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Cleanup;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache of open api docs fetched from external resources. The memory tier keeps parsed open api models
+ * with their validators and is bounded by estimated size of parsed models, the optional disk tier keeps raw docs
+ * bytes with validators, so conditional requests can be sent after restart or memory eviction.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+public class OpenApiSpecCache {
+
+    private static final String BODY_FILE_FORMAT = "%s.body";
+    private static final String METADATA_FILE_FORMAT = "%s.meta";
+    private static final String BODY_FILE_EXTENSION = ".body";
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private static final String REQUESTS_COUNTER_NAME = "open.api.spec.cache.requests";
+    private static final String REVALIDATIONS_COUNTER_NAME = "open.api.spec.cache.revalidations";
+    private static final String EVICTIONS_COUNTER_NAME = "open.api.spec.cache.evictions";
+    private static final String RESULT_TAG = "result";
+    private static final String TIER_TAG = "tier";
+
+    private final AppProperties appProperties;
+    private final ObjectMapper openApiObjectMapper;
+    private final ObjectMapper openApiYamlObjectMapper;
+    private final OpenApiCanonicalizer openApiCanonicalizer;
+    private final ObjectMapper metadataObjectMapper = new ObjectMapper();
+    private final Cache<String, CachedOpenApiSpec> memoryCache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+    private final Counter memoryEvictionCounter;
+    private final Counter diskEvictionCounter;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param appProperties           - app properties
+     * @param openApiObjectMapper     - open api object mapper
+     * @param openApiYamlObjectMapper - open api yaml object mapper
+     * @param openApiCanonicalizer    - open api model canonicalizer
+     * @param meterRegistry           - meter registry
+     */
+    public OpenApiSpecCache(AppProperties appProperties,
+                            ObjectMapper openApiObjectMapper,
+                            @Qualifier("openApiYamlObjectMapper") ObjectMapper openApiYamlObjectMapper,
+                            OpenApiCanonicalizer openApiCanonicalizer,
+                            MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        this.openApiObjectMapper = openApiObjectMapper;
+        this.openApiYamlObjectMapper = openApiYamlObjectMapper;
+        this.openApiCanonicalizer = openApiCanonicalizer;
+        this.hitCounter = meterRegistry.counter(REQUESTS_COUNTER_NAME, RESULT_TAG, "hit");
+        this.missCounter = meterRegistry.counter(REQUESTS_COUNTER_NAME, RESULT_TAG, "miss");
+        this.notModifiedCounter = meterRegistry.counter(REVALIDATIONS_COUNTER_NAME, RESULT_TAG, "not_modified");
+        this.modifiedCounter = meterRegistry.counter(REVALIDATIONS_COUNTER_NAME, RESULT_TAG, "modified");
+        this.memoryEvictionCounter = meterRegistry.counter(EVICTIONS_COUNTER_NAME, TIER_TAG, "memory");
+        this.diskEvictionCounter = meterRegistry.counter(EVICTIONS_COUNTER_NAME, TIER_TAG, "disk");
+        this.memoryCache = CacheBuilder.newBuilder()
+                .maximumWeight(appProperties.getSpecCache().getMaxMemorySize().toBytes())
+                .<String, CachedOpenApiSpec>weigher((url, cachedOpenApiSpec) -> getWeight(cachedOpenApiSpec))
+                .removalListener(notification -> {
+                    if (RemovalCause.SIZE.equals(notification.getCause())) {
+                        memoryEvictionCounter.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Gets cached open api docs for specified url. Open api docs missing in memory are loaded from the disk tier.
+     *
+     * @param url - open api resource url
+     * @return cached open api docs
+     */
+    public Optional<CachedOpenApiSpec> get(String url) {
+        if (!appProperties.getSpecCache().isEnabled()) {
+            return Optional.empty();
+        }
+        var cachedOpenApiSpec = Optional.ofNullable(memoryCache.getIfPresent(url))
+                .or(() -> loadFromDisk(url));
+        if (cachedOpenApiSpec.isPresent()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return cachedOpenApiSpec;
+    }
+
+    /**
+     * Puts open api docs into cache. Open api docs without validators are not cached, because they can't be
+     * revalidated with conditional request.
+     *
+     * @param cachedOpenApiSpec - open api docs to cache
+     * @param body              - raw open api docs bytes, may be {@code null} if disk tier is disabled
+     */
+    public void put(CachedOpenApiSpec cachedOpenApiSpec, byte[] body) {
+        if (!appProperties.getSpecCache().isEnabled() || !cachedOpenApiSpec.hasValidators()) {
+            return;
+        }
+        memoryCache.put(cachedOpenApiSpec.getUrl(), cachedOpenApiSpec);
+        if (appProperties.getSpecCache().isDiskEnabled() && body != null) {
+            saveToDisk(cachedOpenApiSpec, body);
+        }
+        log.debug("Open api docs from [{}] has been cached", cachedOpenApiSpec.getUrl());
+    }
+
+    /**
+     * Checks that raw open api docs bytes are required for caching.
+     *
+     * @return {@code true} if disk tier is enabled, {@code false} otherwise
+     */
+    public boolean isRawBodyRequired() {
+        return appProperties.getSpecCache().isEnabled() && appProperties.getSpecCache().isDiskEnabled();
+    }
+
+    /**
+     * Registers revalidation result of cached open api docs.
+     *
+     * @param notModified - {@code true} if cached open api docs are not modified
+     */
+    public void registerRevalidation(boolean notModified) {
+        if (notModified) {
+            notModifiedCounter.increment();
+        } else {
+            modifiedCounter.increment();
+        }
+    }
+
+    private int getWeight(CachedOpenApiSpec cachedOpenApiSpec) {
+        return (int) Math.min(Integer.MAX_VALUE, Utils.estimateOpenApiModelSize(cachedOpenApiSpec.getSize()));
+    }
+
+    private Optional<CachedOpenApiSpec> loadFromDisk(String url) {
+        if (!appProperties.getSpecCache().isDiskEnabled()) {
+            return Optional.empty();
+        }
+        String key = getKey(url);
+        var directory = getDiskDirectory();
+        var metadataFile = directory.resolve(String.format(METADATA_FILE_FORMAT, key));
+        var bodyFile = directory.resolve(String.format(BODY_FILE_FORMAT, key));
+        if (!Files.exists(metadataFile) || !Files.exists(bodyFile)) {
+            return Optional.empty();
+        }
+        try {
+            var cachedOpenApiSpec = metadataObjectMapper.readValue(metadataFile.toFile(), CachedOpenApiSpec.class);
+            @Cleanup var inputStream = Files.newInputStream(bodyFile);
+            var objectMapper = cachedOpenApiSpec.isYaml() ? openApiYamlObjectMapper : openApiObjectMapper;
+            var openApi = objectMapper.readValue(inputStream, OpenAPI.class);
+            cachedOpenApiSpec.setOpenApi(openApiCanonicalizer.canonicalize(openApi));
+            Files.setLastModifiedTime(bodyFile, FileTime.fromMillis(System.currentTimeMillis()));
+            memoryCache.put(url, cachedOpenApiSpec);
+            log.debug("Open api docs from [{}] has been loaded from disk cache", url);
+            return Optional.of(cachedOpenApiSpec);
+        } catch (IOException ex) {
+            log.warn("Can't load open api docs from [{}] from disk cache: {}", url, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveToDisk(CachedOpenApiSpec cachedOpenApiSpec, byte[] body) {
+        String key = getKey(cachedOpenApiSpec.getUrl());
+        var directory = getDiskDirectory();
+        try {
+            Files.createDirectories(directory);
+            writeAtomically(directory.resolve(String.format(BODY_FILE_FORMAT, key)), body);
+            writeAtomically(directory.resolve(String.format(METADATA_FILE_FORMAT, key)),
+                    metadataObjectMapper.writeValueAsBytes(cachedOpenApiSpec));
+            evictFromDisk(directory);
+        } catch (IOException ex) {
+            log.warn("Can't save open api docs from [{}] to disk cache: {}", cachedOpenApiSpec.getUrl(),
+                    ex.getMessage());
+        }
+    }
+
+    private void writeAtomically(Path file, byte[] bytes) throws IOException {
+        var tmpFile = file.resolveSibling(file.getFileName() + TMP_FILE_SUFFIX);
+        Files.write(tmpFile, bytes);
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private synchronized void evictFromDisk(Path directory) throws IOException {
+        long maxDiskSize = appProperties.getSpecCache().getMaxDiskSize().toBytes();
+        List<Path> bodyFiles;
+        try (var files = Files.list(directory)) {
+            bodyFiles = files.filter(file -> file.getFileName().toString().endsWith(BODY_FILE_EXTENSION))
+                    .sorted(Comparator.comparing(this::getLastModifiedTime))
+                    .collect(Collectors.toList());
+        }
+        long totalSize = 0L;
+        for (var bodyFile : bodyFiles) {
+            totalSize += Files.size(bodyFile);
+        }
+        for (var bodyFile : bodyFiles) {
+            if (totalSize <= maxDiskSize) {
+                break;
+            }
+            totalSize -= Files.size(bodyFile);
+            String key = StringUtils.removeEnd(bodyFile.getFileName().toString(), BODY_FILE_EXTENSION);
+            Files.deleteIfExists(bodyFile);
+            Files.deleteIfExists(directory.resolve(String.format(METADATA_FILE_FORMAT, key)));
+            diskEvictionCounter.increment();
+            log.debug("Open api docs [{}] has been evicted from disk cache", key);
+        }
+    }
+
+    private FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    private Path getDiskDirectory() {
+        return Path.of(appProperties.getSpecCache().getDiskDirectory());
+    }
+
+    private String getKey(String url) {
+        return Hashing.sha256().hashString(url, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -0,0 +1,264 @@
+package com.openapi.converter.service;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.exception.InvalidFileFormatException;
+import com.openapi.converter.model.cache.CachedOpenApiUpload;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.report.AsciiDocReportWriter;
+import jakarta.annotation.PostConstruct;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.TeeWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Content addressed cache of results for uploaded open api files. Results are keyed by uploaded file content hash,
+ * so repeated uploads of the same file are neither parsed, nor rebuilt and rendered again. Rendered report is
+ * bound to template location and validation results are bound to validation rules version. Parsed open api model
+ * is released once rendered report or validation results are cached, until then it is weighed by its estimated
+ * size.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenApiUploadCache {
+
+    private final AppProperties appProperties;
+    private final OpenApiReader openApiReader;
+    private final OpenApiReportProcessor openApiReportProcessor;
+    private final OpenApiValidationService openApiValidationService;
+    private final ValidationRuleService validationRuleService;
+
+    private Cache<String, CachedOpenApiUpload> cache;
+
+    /**
+     * Initializes results cache.
+     */
+    @PostConstruct
+    public void initialize() {
+        cache = CacheBuilder.newBuilder()
+                .maximumWeight(appProperties.getUploadCache().getMaxSize().toBytes())
+                .<String, CachedOpenApiUpload>weigher((hash, cachedOpenApiUpload) -> cachedOpenApiUpload.getWeight())
+                .build();
+    }
+
+    /**
+     * Prepares open api report in adoc format for uploaded file. Open api is read and report model is built
+     * before report writer is returned. Report rendered on cache miss is written to target writer and cached
+     * at the same time, unless report exceeds max. cached report size.
+     *
+     * @param multipartFile - open api file
+     * @return report writer
+     */
+    public AsciiDocReportWriter getAsciiDocReport(MultipartFile multipartFile) {
+        if (!appProperties.getUploadCache().isEnabled()) {
+            return openApiReportProcessor.prepareAsciiDocReport(openApiReader.read(multipartFile));
+        }
+        String contentHash = getContentHash(multipartFile);
+        String templateLocation = appProperties.getTemplateLocation();
+        var cachedOpenApiUpload = cache.getIfPresent(contentHash);
+        if (cachedOpenApiUpload != null && cachedOpenApiUpload.getAsciiDocReport() != null &&
+                templateLocation.equals(cachedOpenApiUpload.getTemplateLocation())) {
+            log.info("Cached adoc report is used for file [{}]", multipartFile.getOriginalFilename());
+            String cachedAsciiDocReport = cachedOpenApiUpload.getAsciiDocReport();
+            return writer -> writer.write(cachedAsciiDocReport);
+        }
+        var openApi = readOpenApi(contentHash, multipartFile);
+        var asciiDocReportWriter = openApiReportProcessor.prepareAsciiDocReport(openApi);
+        long maxReportSize = appProperties.getUploadCache().getMaxReportSize().toBytes();
+        return writer -> {
+            var asciiDocReport = new LimitedStringWriter(maxReportSize);
+            asciiDocReportWriter.write(new TeeWriter(writer, asciiDocReport));
+            if (asciiDocReport.isExceeded()) {
+                log.info("Adoc report for file [{}] exceeds max. cached report size [{}] and will not be cached",
+                        multipartFile.getOriginalFilename(), maxReportSize);
+                return;
+            }
+            updateCachedOpenApiUpload(contentHash, multipartFile, builder -> builder.openApi(null)
+                    .templateLocation(templateLocation)
+                    .asciiDocReport(asciiDocReport.toString()));
+        };
+    }
+
+    /**
+     * Gets validation results for uploaded file.
+     *
+     * @param multipartFile - open api file
+     * @return validation results
+     */
+    public ValidationResults getValidationResults(MultipartFile multipartFile) {
+        if (!appProperties.getUploadCache().isEnabled()) {
+            return openApiValidationService.validate(openApiReader.read(multipartFile));
+        }
+        String contentHash = getContentHash(multipartFile);
+        String validationRulesVersion = validationRuleService.getValidationRulesVersion();
+        var cachedOpenApiUpload = cache.getIfPresent(contentHash);
+        if (cachedOpenApiUpload != null && cachedOpenApiUpload.getValidationResults() != null &&
+                validationRulesVersion.equals(cachedOpenApiUpload.getValidationRulesVersion())) {
+            log.info("Cached validation results are used for file [{}]", multipartFile.getOriginalFilename());
+            return cachedOpenApiUpload.getValidationResults();
+        }
+        var validationResults = openApiValidationService.validate(readOpenApi(contentHash, multipartFile));
+        //Partial results depend on validation budget and server load, so they are not cached
+        if (validationResults.isComplete()) {
+            updateCachedOpenApiUpload(contentHash, multipartFile, builder -> builder.openApi(null)
+                    .validationRulesVersion(validationRulesVersion)
+                    .validationResults(validationResults));
+        }
+        return validationResults;
+    }
+
+    /**
+     * Gets parsed open api model for uploaded file.
+     *
+     * @param multipartFile - open api file
+     * @return open api model
+     */
+    public OpenAPI getOpenApi(MultipartFile multipartFile) {
+        if (!appProperties.getUploadCache().isEnabled()) {
+            return openApiReader.read(multipartFile);
+        }
+        String contentHash = getContentHash(multipartFile);
+        var cachedOpenApiUpload = loadCachedOpenApiUpload(contentHash, multipartFile);
+        if (cachedOpenApiUpload.getOpenApi() != null) {
+            return cachedOpenApiUpload.getOpenApi();
+        }
+        var openApi = openApiReader.read(multipartFile);
+        updateCachedOpenApiUpload(contentHash, multipartFile, builder -> builder.openApi(openApi));
+        return openApi;
+    }
+
+    /**
+     * Reads open api model for uploaded file. Model of cached entry without rendered results is reused,
+     * if there is no cached entry, model is read and cached. Model isn't cached again for entries with
+     * rendered results, because it is released once results are cached.
+     *
+     * @param contentHash   - uploaded file content hash
+     * @param multipartFile - open api file
+     * @return open api model
+     */
+    private OpenAPI readOpenApi(String contentHash, MultipartFile multipartFile) {
+        var cachedOpenApiUpload = loadCachedOpenApiUpload(contentHash, multipartFile);
+        return cachedOpenApiUpload.getOpenApi() != null ? cachedOpenApiUpload.getOpenApi() :
+                openApiReader.read(multipartFile);
+    }
+
+    private CachedOpenApiUpload loadCachedOpenApiUpload(String contentHash, MultipartFile multipartFile) {
+        try {
+            return cache.get(contentHash, () -> {
+                log.info("Upload cache miss for file [{}] with hash [{}]", multipartFile.getOriginalFilename(),
+                        contentHash);
+                return CachedOpenApiUpload.builder()
+                        .contentHash(contentHash)
+                        .size(multipartFile.getSize())
+                        .openApi(openApiReader.read(multipartFile))
+                        .build();
+            });
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void updateCachedOpenApiUpload(String contentHash, MultipartFile multipartFile,
+                                           UnaryOperator<CachedOpenApiUpload.CachedOpenApiUploadBuilder> update) {
+        //Replaces entry with updated copy, so cache recalculates its weight
+        cache.asMap().compute(contentHash, (hash, cachedOpenApiUpload) -> {
+            var builder = cachedOpenApiUpload != null ? cachedOpenApiUpload.toBuilder() :
+                    CachedOpenApiUpload.builder().contentHash(hash).size(multipartFile.getSize());
+            return update.apply(builder).build();
+        });
+    }
+
+    private String getContentHash(MultipartFile multipartFile) {
+        openApiReader.checkFileExtension(multipartFile);
+        return calculateContentHash(multipartFile);
+    }
+
+    private String calculateContentHash(MultipartFile multipartFile) {
+        try {
+            var hasher = Hashing.sha256().newHasher();
+            @Cleanup var inputStream = multipartFile.getInputStream();
+            @Cleanup var outputStream = Funnels.asOutputStream(hasher);
+            inputStream.transferTo(outputStream);
+            return hasher.hash().toString();
+        } catch (IOException ex) {
+            log.error("Error while read file [{}] content: {}", multipartFile.getOriginalFilename(), ex.getMessage());
+            throw new InvalidFileFormatException(
+                    String.format("Invalid file [%s] format", multipartFile.getOriginalFilename()));
+        }
+    }
+
+    /**
+     * String writer limited by max. size. Once max. size is exceeded, written chars are released and further
+     * chars are skipped.
+     */
+    private static class LimitedStringWriter extends Writer {
+
+        private final long maxSize;
+        private StringBuilder buffer = new StringBuilder();
+
+        LimitedStringWriter(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        boolean isExceeded() {
+            return buffer == null;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            if (buffer == null) {
+                return;
+            }
+            if (buffer.length() + (long) length > maxSize) {
+                buffer = null;
+            } else {
+                buffer.append(chars, offset, length);
+            }
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            if (buffer == null) {
+                return;
+            }
+            if (buffer.length() + (long) length > maxSize) {
+                buffer = null;
+            } else {
+                buffer.append(str, offset, offset + length);
+            }
+        }
+
+        @Override
+        public void flush() {
+            //Nothing to flush
+        }
+
+        @Override
+        public void close() {
+            //Nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return buffer != null ? buffer.toString() : null;
+        }
+    }
+}
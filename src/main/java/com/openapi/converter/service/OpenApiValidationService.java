@@ -1,37 +1,37 @@
 package com.openapi.converter.service;
 
-import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.config.AppProperties;
 import com.openapi.converter.dto.openapi.Info;
 import com.openapi.converter.dto.openapi.OpenAPI;
-import com.openapi.converter.dto.openapi.Operation;
-import com.openapi.converter.dto.openapi.Parameter;
-import com.openapi.converter.dto.openapi.Schema;
-import com.openapi.converter.exception.OperationNotSpecifiedException;
-import com.openapi.converter.model.validation.Rule;
 import com.openapi.converter.model.validation.Severity;
-import com.openapi.converter.model.validation.ValidationResult;
+import com.openapi.converter.model.validation.ValidationBudgetLimit;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.service.validation.ValidationBudget;
+import com.openapi.converter.service.validation.ValidationFragment;
+import com.openapi.converter.service.validation.ValidationFragmentCache;
+import com.openapi.converter.service.validation.ValidationMetrics;
+import com.openapi.converter.service.validation.ValidationResultCollector;
+import com.openapi.converter.service.validation.ValidationResultCounter;
+import com.openapi.converter.service.validation.ValidationResultRecorder;
+import com.openapi.converter.service.validation.ValidationResultSink;
+import com.openapi.converter.service.validation.ValidationRuleEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-
-import static com.google.common.collect.Lists.newArrayList;
-import static com.openapi.converter.util.Utils.countBySeverity;
-import static com.openapi.converter.util.Utils.getOperation;
-import static com.openapi.converter.util.Utils.hasExample;
-import static com.openapi.converter.util.Utils.hasMaxItems;
-import static com.openapi.converter.util.Utils.hasMaxLength;
-import static com.openapi.converter.util.Utils.hasMaximum;
-import static com.openapi.converter.util.Utils.hasMinimum;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
- * Open API validation service.
+ * Open API validation service. Large open api docs are split into independent fragments (api info, paths and
+ * component schemas), which are validated in parallel. Partial results are merged in fragment order before
+ * sorting, so results are the same as in sequential mode. In incremental mode only fragments changed since
+ * any previously validated open api version are validated, results of others are taken from fragments cache.
+ * Each validation is limited by the budget of duration, visited nodes and results count; when the budget
+ * is exceeded validation is stopped and partial results are marked as incomplete.
  *
  * @author Roman Batygin
  */
@@ -40,9 +40,13 @@ import static com.openapi.converter.util.Utils.hasMinimum;
 @RequiredArgsConstructor
 public class OpenApiValidationService {
 
-    private static final String ARRAY_TYPE = "array";
-
+    private final AppProperties appProperties;
     private final ValidationResultHelper validationResultHelper;
+    private final ValidationRuleService validationRuleService;
+    private final ValidationRuleEngine validationRuleEngine;
+    private final ForkJoinPool validationForkJoinPool;
+    private final ValidationFragmentCache validationFragmentCache;
+    private final ValidationMetrics validationMetrics;
 
     /**
      * Validates specified open api.
@@ -50,272 +54,148 @@ public class OpenApiValidationService {
      * @param openAPI - open api model
      * @return validation results
      */
-    public List<ValidationResult> validate(OpenAPI openAPI) {
-        String title = Optional.ofNullable(openAPI.getInfo())
-                .map(Info::getTitle)
-                .orElse(null);
+    public ValidationResults validate(OpenAPI openAPI) {
+        String title = getTitle(openAPI);
         log.info("Starting to validate open api [{}]", title);
-        List<ValidationResult> validationResults = newArrayList();
-        validationResults.addAll(validateApiInfo(openAPI));
-        validationResults.addAll(validatePaths(openAPI));
-        validationResults.addAll(validateSchemas(openAPI));
-        validationResults.sort(Comparator.comparing(ValidationResult::getSeverity));
-        log.info("Open api [{}] validation has been finished", title);
-        printValidationResults(title, validationResults);
+        var validationResultCollector = new ValidationResultCollector(validationRuleService);
+        var exceededBudgetLimit = countAndValidateFragments(title, openAPI, validationResultCollector);
+        var validationResults = validationResultCollector.getValidationResults();
+        validationResults.sortBySeverity();
+        validationResults.setExceededBudgetLimit(exceededBudgetLimit);
+        printValidationResultsDetails(title, validationResults);
         return validationResults;
     }
 
-    private List<ValidationResult> validateApiInfo(OpenAPI openAPI) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (Optional.ofNullable(openAPI.getInfo()).isEmpty() || StringUtils.isEmpty(openAPI.getInfo().getTitle())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_TITLE_REQUIRED)
-            );
-        }
-        if (Optional.ofNullable(openAPI.getInfo()).isEmpty() || StringUtils.isEmpty(openAPI.getInfo().getVersion())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_VERSION_REQUIRED)
-            );
-        }
-        if (Optional.ofNullable(openAPI.getInfo()).isEmpty() ||
-                StringUtils.isEmpty(openAPI.getInfo().getDescription())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_DESCRIPTION_REQUIRED)
-            );
-        }
-        if (Optional.ofNullable(openAPI.getInfo()).map(Info::getContact).isEmpty() ||
-                StringUtils.isEmpty(openAPI.getInfo().getContact().getName())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_CONTACT_NAME_REQUIRED)
-            );
-        }
-        if (Optional.ofNullable(openAPI.getInfo()).map(Info::getContact).isEmpty() ||
-                StringUtils.isEmpty(openAPI.getInfo().getContact().getEmail())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_CONTACT_EMAIL_REQUIRED)
-            );
-        }
-        return validationResults;
+    /**
+     * Validates specified open api and passes rule violations to the sink in traversal order without sorting.
+     *
+     * @param openAPI - open api model
+     * @param sink    - validation results sink
+     * @return exceeded validation budget limit or {@code null} if validation is complete
+     */
+    public ValidationBudgetLimit validate(OpenAPI openAPI, ValidationResultSink sink) {
+        String title = getTitle(openAPI);
+        log.info("Starting to validate open api [{}]", title);
+        return countAndValidateFragments(title, openAPI, sink);
     }
 
-    private List<ValidationResult> validateRequestBody(String path, Operation operation) {
-        List<ValidationResult> validationResults = newArrayList();
-        var requestBody = operation.getRequestBody();
-        if (requestBody != null && !CollectionUtils.isEmpty(requestBody.getContent())) {
-            var mediaType = requestBody.getContent().entrySet().iterator().next();
-            var schema = mediaType.getValue().getSchema();
-            if (!hasExample(mediaType.getValue())) {
-                validationResults.add(
-                        validationResultHelper.buildValidationResult(Rule.REQUEST_BODY_EXAMPLE_REQUIRED, path,
-                                schema.getRef(), null)
-                );
-            }
-        }
-        return validationResults;
+    /**
+     * Checks open api structure required for validation. Must be called before validation results streaming.
+     *
+     * @param openAPI - open api model
+     */
+    public void checkOpenApi(OpenAPI openAPI) {
+        validationRuleEngine.checkPaths(openAPI);
     }
 
-    private List<ValidationResult> validatePaths(OpenAPI openAPI) {
-        var paths = Optional.ofNullable(openAPI.getPaths()).orElse(Collections.emptyMap());
-        List<ValidationResult> validationResults = newArrayList();
-        paths.forEach((path, pathItem) -> {
-            var operationModel = getOperation(pathItem)
-                    .orElseThrow(() -> new OperationNotSpecifiedException(
-                            String.format("Operation not specified for endpoint [%s]", path)));
-            var operation = operationModel.getOperation();
-            validationResults.addAll(validateOperation(path, operation));
-            validationResults.addAll(validateRequestBody(path, operation));
-            validationResults.addAll(validateResponses(path, operation));
-        });
-        return validationResults;
+    private ValidationBudgetLimit countAndValidateFragments(String title, OpenAPI openAPI,
+                                                           ValidationResultSink sink) {
+        var validationProperties = appProperties.getValidation();
+        var budget = new ValidationBudget(validationProperties.getMaxDuration(),
+                validationProperties.getMaxVisitedNodes(), validationProperties.getMaxResults());
+        var validationResultCounter = new ValidationResultCounter(sink);
+        validateFragments(title, openAPI, budget, budget.limit(validationResultCounter));
+        var severityCounts = validationMetrics.record(validationResultCounter);
+        log.info("Open api [{}] validation has been finished with [{}] results: [{}] CRITICAL, [{}] MAJOR, " +
+                        "[{}] MINOR, [{}] INFO", title, validationResultCounter.getTotalCount(),
+                severityCounts.get(Severity.CRITICAL), severityCounts.get(Severity.MAJOR),
+                severityCounts.get(Severity.MINOR), severityCounts.get(Severity.INFO));
+        if (budget.isExceeded()) {
+            validationMetrics.recordBudgetExceeded(budget.getExceededLimit());
+            log.warn("Open api [{}] validation has been stopped, because [{}] budget limit has been exceeded. " +
+                    "Validation results are incomplete", title, budget.getExceededLimit());
+        }
+        return budget.getExceededLimit();
     }
 
-    private List<ValidationResult> validateOperation(String path, Operation operation) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (StringUtils.isEmpty(operation.getDescription())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_OPERATION_DESCRIPTION_REQUIRED, path)
-            );
-        }
-        if (StringUtils.isEmpty(operation.getSummary())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.API_OPERATION_SUMMARY_REQUIRED, path)
-            );
+    private void validateFragments(String title, OpenAPI openAPI, ValidationBudget budget,
+                                   ValidationResultSink sink) {
+        var fragments = validationRuleEngine.getFragments(openAPI);
+        if (appProperties.getValidation().isIncrementalEnabled()) {
+            validateChangedFragments(title, openAPI, fragments, budget, sink);
+            return;
         }
-        var requestParameters = operation.getParameters();
-        validationResults.addAll(validateRequestParameters(path, requestParameters));
-        return validationResults;
-    }
-
-    private List<ValidationResult> validateRequestParameters(String path, List<Parameter> parameters) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (!CollectionUtils.isEmpty(parameters)) {
-            parameters.forEach(parameter -> {
-                if (StringUtils.isEmpty(parameter.getDescription())) {
-                    validationResults.add(
-                            validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_DESCRIPTION_REQUIRED,
-                                    path, parameter.getName())
-                    );
-                }
-                if (StringUtils.isEmpty(parameter.getExample())) {
-                    validationResults.add(
-                            validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_EXAMPLE_REQUIRED,
-                                    path, parameter.getName())
-                    );
-                }
-                if (parameter.getSchema() != null) {
-                    validationResults.addAll(
-                            validateRequestParameterSchema(path, parameter.getName(), parameter.getSchema()));
-                }
-            });
+        if (!isParallel(fragments)) {
+            validationRuleEngine.validate(openAPI, budget, sink);
+            return;
         }
-        return validationResults;
+        log.info("Open api [{}] [{}] fragments will be validated in parallel", title, fragments.size());
+        mapFragments(fragments, fragment -> validateFragment(openAPI, fragment, budget))
+                .forEach(validationResultRecorder -> validationResultRecorder.replay(openAPI, sink));
     }
 
-    private List<ValidationResult> validateSchemas(OpenAPI openAPI) {
-        if (openAPI.getComponents() == null || CollectionUtils.isEmpty(openAPI.getComponents().getSchemas())) {
-            return Collections.emptyList();
-        }
-        List<ValidationResult> validationResults = newArrayList();
-        openAPI.getComponents().getSchemas().forEach((ref, schema) -> {
-            if (StringUtils.isEmpty(schema.getDescription())) {
-                validationResults.add(
-                        validationResultHelper.buildValidationResult(Rule.SCHEMA_DESCRIPTION_REQUIRED, null,
-                                ref, null)
-                );
+    private void validateChangedFragments(String title, OpenAPI openAPI, List<ValidationFragment> fragments,
+                                          ValidationBudget budget, ValidationResultSink sink) {
+        var fragmentHashes = mapFragments(fragments, fragment ->
+                fragment.isSelfContained() ? validationFragmentCache.getFragmentHash(fragment) : null);
+        var validationResultRecorders = new ValidationResultRecorder[fragments.size()];
+        List<Integer> changedFragmentIndexes = new ArrayList<>();
+        for (int i = 0; i < fragments.size(); i++) {
+            if (fragmentHashes.get(i) != null) {
+                validationResultRecorders[i] = validationFragmentCache.get(fragmentHashes.get(i));
             }
-            if (!CollectionUtils.isEmpty(schema.getProperties())) {
-                schema.getProperties().forEach((fieldName, schemaVal) ->
-                        validationResults.addAll(validateSchema(ref, fieldName, schemaVal))
-                );
+            if (validationResultRecorders[i] == null) {
+                changedFragmentIndexes.add(i);
             }
-            validationResults.addAll(validateSchemaAllOf(ref, schema));
-        });
-        return validationResults;
+        }
+        log.info("Open api [{}] [{}] of [{}] fragments have been changed and will be validated", title,
+                changedFragmentIndexes.size(), fragments.size());
+        var changedFragmentsResults = mapFragments(changedFragmentIndexes.stream().map(fragments::get).toList(),
+                fragment -> validateFragment(openAPI, fragment, budget));
+        //Fragments validated with exceeded budget may have partial results, so they are not cached
+        boolean cacheable = !budget.isExceeded();
+        for (int i = 0; i < changedFragmentIndexes.size(); i++) {
+            int fragmentIndex = changedFragmentIndexes.get(i);
+            validationResultRecorders[fragmentIndex] = changedFragmentsResults.get(i);
+            if (cacheable && fragmentHashes.get(fragmentIndex) != null) {
+                validationFragmentCache.put(fragmentHashes.get(fragmentIndex), changedFragmentsResults.get(i));
+            }
+        }
+        for (var validationResultRecorder : validationResultRecorders) {
+            validationResultRecorder.replay(openAPI, sink);
+        }
     }
 
-    private List<ValidationResult> validateSchemaAllOf(String ref, Schema schema) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (!CollectionUtils.isEmpty(schema.getAllOf())) {
-            schema.getAllOf().forEach(sch -> {
-                if (!CollectionUtils.isEmpty(sch.getProperties())) {
-                    sch.getProperties().forEach((fieldName, schemaVal) ->
-                            validationResults.addAll(validateSchema(ref, fieldName, schemaVal))
-                    );
-                }
-            });
-        }
-        return validationResults;
+    private ValidationResultRecorder validateFragment(OpenAPI openAPI, ValidationFragment fragment,
+                                                      ValidationBudget budget) {
+        var validationResultRecorder = new ValidationResultRecorder();
+        validationRuleEngine.validate(openAPI, fragment, budget, validationResultRecorder);
+        return validationResultRecorder;
     }
 
-    private List<ValidationResult> validateSchema(String ref, String field, Schema schema) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (!ARRAY_TYPE.equals(schema.getType()) && StringUtils.isEmpty(schema.getRef()) &&
-                CollectionUtils.isEmpty(schema.getOneOf()) && StringUtils.isEmpty(schema.getDescription())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_DESCRIPTION_REQUIRED, null,
-                            ref, field)
-            );
-        }
-        if (StringUtils.isEmpty(schema.getExample())) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_EXAMPLE_REQUIRED, null,
-                            ref, field)
-            );
-        }
-        if (!hasMaximum(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_MAXIMUM_REQUIRED, null,
-                            ref, field)
-            );
-        }
-        if (!hasMinimum(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_MINIMUM_REQUIRED, null,
-                            ref, field)
-            );
-        }
-        if (!hasMaxLength(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_MAX_LENGTH_REQUIRED, null,
-                            ref, field)
-            );
-        }
-        if (!hasMaxItems(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.SCHEMA_PROPERTY_MAX_ITEMS_REQUIRED, null,
-                            ref, field)
-            );
+    private <R> List<R> mapFragments(List<ValidationFragment> fragments, Function<ValidationFragment, R> mapper) {
+        if (!isParallel(fragments)) {
+            return fragments.stream().map(mapper).toList();
         }
-        return validationResults;
+        return validationForkJoinPool.submit(() -> fragments.parallelStream().map(mapper).toList()).join();
     }
 
-    private List<ValidationResult> validateRequestParameterSchema(String path, String parameter, Schema schema) {
-        List<ValidationResult> validationResults = newArrayList();
-        if (!hasMaximum(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_MAXIMUM_REQUIRED, path,
-                            parameter)
-            );
-        }
-        if (!hasMinimum(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_MINIMUM_REQUIRED, path,
-                            parameter)
-            );
-        }
-        if (!hasMaxLength(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_MAX_LENGTH_REQUIRED, path,
-                            parameter)
-            );
-        }
-        if (!hasMaxItems(schema)) {
-            validationResults.add(
-                    validationResultHelper.buildValidationResult(Rule.REQUEST_PARAMETER_MAX_ITEMS_REQUIRED, path,
-                            parameter)
-            );
-        }
-        return validationResults;
+    private boolean isParallel(List<ValidationFragment> fragments) {
+        var validationProperties = appProperties.getValidation();
+        return validationProperties.isParallelEnabled() &&
+                fragments.size() >= validationProperties.getParallelThreshold();
     }
 
-    private List<ValidationResult> validateResponses(String path, Operation operation) {
-        if (CollectionUtils.isEmpty(operation.getResponses())) {
-            return Collections.emptyList();
-        }
-        List<ValidationResult> validationResults = newArrayList();
-        operation.getResponses().forEach((code, response) ->
-                validationResults.addAll(validateResponse(path, code, response))
-        );
-        return validationResults;
+    private String getTitle(OpenAPI openAPI) {
+        return Optional.ofNullable(openAPI.getInfo())
+                .map(Info::getTitle)
+                .orElse(null);
     }
 
-    private List<ValidationResult> validateResponse(String path, String responseCode, ApiResponse apiResponse) {
-        if (CollectionUtils.isEmpty(apiResponse.getContent())) {
-            return Collections.emptyList();
+    private void printValidationResultsDetails(String title, ValidationResults validationResults) {
+        if (!log.isDebugEnabled()) {
+            return;
         }
-        List<ValidationResult> validationResults = newArrayList();
-        var mediaType = apiResponse.getContent().entrySet().iterator().next();
-        if (StringUtils.isEmpty(apiResponse.getDescription())) {
-            validationResults.add(
-                    validationResultHelper.buildResponseValidationResult(Rule.API_RESPONSE_DESCRIPTION_REQUIRED, path,
-                            responseCode)
-            );
+        int detailLogMaxResults = appProperties.getValidation().getDetailLogMaxResults();
+        log.debug("Open api [{}] validation results:", title);
+        for (int i = 0; i < Math.min(validationResults.size(), detailLogMaxResults); i++) {
+            var validationResult = validationResultHelper.buildValidationResult(validationResults.getRule(i),
+                    validationResults.getPath(i), validationResults.getSchemaRef(i),
+                    validationResults.getParameterOrProperty(i), validationResults.getResponseCode(i));
+            log.debug("Validation result: {}", validationResult);
         }
-        if (!hasExample(mediaType.getValue())) {
-            validationResults.add(
-                    validationResultHelper.buildResponseValidationResult(Rule.API_RESPONSE_EXAMPLE_REQUIRED, path,
-                            responseCode)
-            );
+        if (validationResults.size() > detailLogMaxResults) {
+            log.debug("[{}] more validation results are omitted", validationResults.size() - detailLogMaxResults);
         }
-        return validationResults;
-    }
-
-    private void printValidationResults(String title, List<ValidationResult> validationResults) {
-        log.info("Open api [{}] validation results:", title);
-        log.info("[{}] CRITICAL severities", countBySeverity(validationResults, Severity.CRITICAL));
-        log.info("[{}] MAJOR severities", countBySeverity(validationResults, Severity.MAJOR));
-        log.info("[{}] MINOR severities", countBySeverity(validationResults, Severity.MINOR));
-        log.info("[{}] INFO severities", countBySeverity(validationResults, Severity.INFO));
-        validationResults.forEach(validationResult -> log.info("Validation result: {}", validationResult));
     }
 }
@@ -72,6 +72,26 @@ public class ValidationResultHelper {
                 .build();
     }
 
+    /**
+     * Builds validation result.
+     *
+     * @param rule                - rule code
+     * @param path                - endpoint
+     * @param schemaRef           - schema reference
+     * @param parameterOrProperty - request parameter or schema property
+     * @param responseCode        - response code
+     * @return validation result
+     */
+    public ValidationResult buildValidationResult(Rule rule, String path, String schemaRef,
+                                                  String parameterOrProperty, String responseCode) {
+        return builder(rule)
+                .path(path)
+                .schemaRef(schemaRef)
+                .parameterOrProperty(parameterOrProperty)
+                .responseCode(responseCode)
+                .build();
+    }
+
     /**
      * Builds validation result.
      *
@@ -2,22 +2,32 @@ package com.openapi.converter.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import com.openapi.converter.config.AppProperties;
 import com.openapi.converter.exception.ValidationRuleNotFoundException;
 import com.openapi.converter.model.validation.Rule;
+import com.openapi.converter.model.validation.Severity;
 import com.openapi.converter.model.validation.ValidationRuleConfig;
 import jakarta.annotation.PostConstruct;
 import lombok.Cleanup;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * Validation rule service.
+ * Validation rule service. Validation rules are compiled at load time into the rule table,
+ * rules with {@link Severity#OFF} severity and rules missing in validation rules resource are disabled.
  *
  * @author Roman Batygin
  */
@@ -29,8 +39,17 @@ public class ValidationRuleService {
     private final AppProperties appProperties;
     private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
-    private Map<Rule, ValidationRuleConfig> ruleConfigMap;
+    private final Map<Rule, ValidationRuleConfig> ruleTable = new EnumMap<>(Rule.class);
+    private final Set<Rule> disabledRules = EnumSet.noneOf(Rule.class);
+    private final Set<Rule> pathFilteredRules = EnumSet.noneOf(Rule.class);
+
+    /**
+     * Validation rules version (validation rules content hash)
+     */
+    @Getter
+    private String validationRulesVersion;
 
     /**
      * Loads validation rules from resource.
@@ -42,10 +61,14 @@ public class ValidationRuleService {
         log.info("Starting to load validation rules from [{}]", appProperties.getValidationRulesLocation());
         var resource = resolver.getResource(appProperties.getValidationRulesLocation());
         @Cleanup var inputStream = resource.getInputStream();
-        ruleConfigMap = objectMapper.readValue(inputStream, new TypeReference<>() {
-        });
-        log.info("[{}] validation rules has been loaded from [{}]", ruleConfigMap.size(),
-                appProperties.getValidationRulesLocation());
+        byte[] validationRules = inputStream.readAllBytes();
+        Map<Rule, ValidationRuleConfig> ruleConfigMap = objectMapper.readValue(validationRules,
+                new TypeReference<>() {
+                });
+        compileRuleTable(ruleConfigMap);
+        validationRulesVersion = Hashing.sha256().hashBytes(validationRules).toString();
+        log.info("[{}] validation rules has been loaded from [{}], disabled rules: {}", ruleTable.size(),
+                appProperties.getValidationRulesLocation(), disabledRules);
     }
 
     /**
@@ -55,12 +78,72 @@ public class ValidationRuleService {
      * @return rule config
      */
     public ValidationRuleConfig getValidationRuleConfig(Rule rule) {
-        log.debug("Gets rule [{}] config", rule);
-        var ruleConfig = ruleConfigMap.get(rule);
+        var ruleConfig = ruleTable.get(rule);
         if (ruleConfig == null) {
             throw new ValidationRuleNotFoundException(rule);
         }
-        log.debug("Rule [{}] config has been fetched {}", rule, ruleConfig);
         return ruleConfig;
     }
+
+    /**
+     * Checks that rule is enabled.
+     *
+     * @param rule - rule
+     * @return {@code true} if rule is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled(Rule rule) {
+        return !disabledRules.contains(rule);
+    }
+
+    /**
+     * Checks that rule is applied to specified endpoint path.
+     *
+     * @param rule - rule
+     * @param path - endpoint path, may be {@code null} for nodes outside paths
+     * @return {@code true} if rule is applied to path, {@code false} otherwise
+     */
+    public boolean isApplicable(Rule rule, String path) {
+        if (path == null || !pathFilteredRules.contains(rule)) {
+            return true;
+        }
+        var ruleConfig = ruleTable.get(rule);
+        return (CollectionUtils.isEmpty(ruleConfig.getIncludePaths()) || matches(ruleConfig.getIncludePaths(), path))
+                && !matches(ruleConfig.getExcludePaths(), path);
+    }
+
+    private void compileRuleTable(Map<Rule, ValidationRuleConfig> ruleConfigMap) {
+        ruleTable.clear();
+        disabledRules.clear();
+        pathFilteredRules.clear();
+        ruleTable.putAll(ruleConfigMap);
+        ruleTable.forEach((rule, ruleConfig) -> {
+            if (Severity.OFF.equals(ruleConfig.getSeverity())) {
+                disabledRules.add(rule);
+            }
+            if (!CollectionUtils.isEmpty(ruleConfig.getIncludePaths()) ||
+                    !CollectionUtils.isEmpty(ruleConfig.getExcludePaths())) {
+                pathFilteredRules.add(rule);
+            }
+        });
+        //Custom validation rules resource may be written before new rules have been added
+        var missingRules = EnumSet.allOf(Rule.class);
+        missingRules.removeAll(ruleTable.keySet());
+        if (!missingRules.isEmpty()) {
+            log.warn("Validation rules {} are missing in [{}] and will be disabled", missingRules,
+                    appProperties.getValidationRulesLocation());
+            disabledRules.addAll(missingRules);
+        }
+    }
+
+    private boolean matches(List<String> pathPatterns, String path) {
+        if (pathPatterns == null) {
+            return false;
+        }
+        for (var pathPattern : pathPatterns) {
+            if (pathMatcher.match(pathPattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,72 @@
+package com.openapi.converter.service;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.net.ssl.SSLException;
+
+/**
+ * Registry of shared web clients. Single web client is shared for each scheme, web clients use the common
+ * connection pool, which keeps connections by remote host, so several open api docs from the same service reuse
+ * pooled keep-alive connections and no state is kept per requested host. Compressed responses are requested and
+ * decoded on the fly.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+public class WebClientRegistry {
+
+    private static final String HTTPS_SCHEME = "https";
+
+    private final WebClient httpWebClient;
+    private final WebClient httpsWebClient;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param openApiConnectionProvider - shared connection pool
+     */
+    public WebClientRegistry(ConnectionProvider openApiConnectionProvider) {
+        var httpClient = HttpClient.create(openApiConnectionProvider).compress(true);
+        var sslContext = createSslContext();
+        this.httpWebClient = createWebClient(httpClient);
+        this.httpsWebClient = createWebClient(httpClient.secure(ssl -> ssl.sslContext(sslContext)));
+    }
+
+    /**
+     * Gets shared web client for specified url.
+     *
+     * @param url - resource url
+     * @return web client
+     */
+    public WebClient getWebClient(String url) {
+        var uriComponents = UriComponentsBuilder.fromHttpUrl(url).build();
+        return HTTPS_SCHEME.equalsIgnoreCase(uriComponents.getScheme()) ? httpsWebClient : httpWebClient;
+    }
+
+    private static WebClient createWebClient(HttpClient httpClient) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private static SslContext createSslContext() {
+        try {
+            return SslContextBuilder.forClient()
+                    .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .build();
+        } catch (SSLException ex) {
+            log.error("Error while ssl context creation: {}", ex.getMessage());
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.openapi.converter.service.example;
+
+import com.google.common.collect.MapMaker;
+import com.openapi.converter.dto.openapi.MediaType;
+import com.openapi.converter.model.report.ExampleReport;
+import com.openapi.converter.service.reference.RefIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Example reports of single open api report build. Example reports are shared by components example reference
+ * for referenced examples and by example value identity for inline examples, so each example is serialized
+ * at most once.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+public class ExampleReports {
+
+    private final RefIndex refIndex;
+    private final ExampleSerializer exampleSerializer;
+    private final Map<String, ExampleReport> refExampleReports;
+    private final Map<Object, ExampleReport> exampleReports;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param refIndex          - references index
+     * @param exampleSerializer - example serializer
+     * @param concurrent        - example reports are accessed concurrently?
+     */
+    public ExampleReports(RefIndex refIndex, ExampleSerializer exampleSerializer, boolean concurrent) {
+        this.refIndex = refIndex;
+        this.exampleSerializer = exampleSerializer;
+        this.refExampleReports = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+        //Concurrent map with weak keys compares keys by identity
+        this.exampleReports = concurrent ? new MapMaker().weakKeys().makeMap() : new IdentityHashMap<>();
+    }
+
+    /**
+     * Gets media type example report.
+     *
+     * @param mediaType - media type
+     * @return example report or {@code null} if example is not specified
+     */
+    public ExampleReport getExampleReport(MediaType mediaType) {
+        if (!CollectionUtils.isEmpty(mediaType.getExamples())) {
+            var example = mediaType.getExamples().values().iterator().next();
+            if (StringUtils.isNotEmpty(example.getRef())) {
+                return refExampleReports.computeIfAbsent(example.getRef(),
+                        ref -> createExampleReport(getExampleValueByRef(ref)));
+            } else if (example.getValue() != null) {
+                return getExampleReport(example.getValue());
+            }
+        }
+        return getExampleReport(mediaType.getExample());
+    }
+
+    private ExampleReport getExampleReport(Object exampleValue) {
+        if (exampleValue == null) {
+            return null;
+        }
+        return exampleReports.computeIfAbsent(exampleValue, this::createExampleReport);
+    }
+
+    private ExampleReport createExampleReport(Object exampleValue) {
+        if (exampleValue == null) {
+            return null;
+        }
+        return new ExampleReport(() -> exampleSerializer.serialize(exampleValue));
+    }
+
+    private Object getExampleValueByRef(String ref) {
+        var example = refIndex.getExample(ref);
+        if (example == null) {
+            log.warn("Can't find example with ref [{}]", ref);
+            return null;
+        }
+        return example.getValue();
+    }
+}
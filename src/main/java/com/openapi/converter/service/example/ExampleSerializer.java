@@ -0,0 +1,102 @@
+package com.openapi.converter.service.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openapi.converter.config.AppProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Example serializer. Serializes example values to pretty printed json limited by max. example length.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+public class ExampleSerializer {
+
+    private static final String TRUNCATED_EXAMPLE_SUFFIX = "\n...";
+
+    private final ObjectMapper exampleObjectMapper;
+    private final int exampleMaxLength;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param exampleObjectMapper - example object mapper
+     * @param appProperties       - app properties
+     */
+    public ExampleSerializer(@Qualifier("exampleObjectMapper") ObjectMapper exampleObjectMapper,
+                             AppProperties appProperties) {
+        this.exampleObjectMapper = exampleObjectMapper;
+        this.exampleMaxLength = appProperties.getReport().getExampleMaxLength();
+    }
+
+    /**
+     * Serializes example value to json. Json exceeding max. example length is truncated.
+     *
+     * @param exampleValue - example value
+     * @return example json
+     */
+    public String serialize(Object exampleValue) {
+        var writer = new LimitedStringWriter(exampleMaxLength);
+        try {
+            exampleObjectMapper.writeValue(writer, exampleValue);
+            return writer.toString();
+        } catch (IOException ex) {
+            if (writer.isLimitExceeded()) {
+                log.warn("Example json exceeds [{}] characters and has been truncated", exampleMaxLength);
+                return writer + TRUNCATED_EXAMPLE_SUFFIX;
+            }
+            log.error("Can't serialize example to json: {}", ex.getMessage());
+            return String.valueOf(exampleValue);
+        }
+    }
+
+    /**
+     * String writer limited by max. length. Write exceeding max. length keeps chars within limit and fails,
+     * so serialization of huge value is stopped as soon as limit is reached.
+     */
+    private static class LimitedStringWriter extends Writer {
+
+        final StringBuilder buffer = new StringBuilder();
+        final int maxLength;
+
+        @Getter
+        boolean limitExceeded;
+
+        LimitedStringWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = maxLength - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, remaining);
+                limitExceeded = true;
+                throw new IOException(String.format("Max. length [%d] has been exceeded", maxLength));
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+            //Nothing to flush
+        }
+
+        @Override
+        public void close() {
+            //Nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.openapi.converter.service.field;
+
+import com.google.common.collect.MapMaker;
+import com.openapi.converter.dto.openapi.Schema;
+import com.openapi.converter.service.reference.RefIndex;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Schema fields resolver of single open api report build. Schema fields are schema properties or fields of
+ * all of schema parents chain starting from the top-most parent followed by child schema properties. Parent fields
+ * with names already defined by upper parents are skipped, parents chain is stopped on unresolved reference or
+ * circular all of chain. Fields are memoized by schema identity and parent fields by parent schema reference,
+ * except schemas of circular all of chains, because their fields depend on the chain start.
+ *
+ * @param <F> - field generic type
+ * @author Roman Batygin
+ */
+public class SchemaFieldResolver<F> {
+
+    private static final int ALL_OF_SIZE = 2;
+    private static final int CHILD_SCHEMA_IDX = 1;
+
+    private final RefIndex refIndex;
+    private final FieldFactory<F> fieldFactory;
+    private final Function<F, String> fieldNameFunction;
+    private final Map<Schema, List<F>> fields;
+    private final Map<String, List<F>> parentFields;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param refIndex          - references index
+     * @param fieldFactory      - field factory
+     * @param fieldNameFunction - field name function
+     * @param concurrent        - fields are resolved concurrently?
+     */
+    public SchemaFieldResolver(RefIndex refIndex, FieldFactory<F> fieldFactory,
+                               Function<F, String> fieldNameFunction, boolean concurrent) {
+        this.refIndex = refIndex;
+        this.fieldFactory = fieldFactory;
+        this.fieldNameFunction = fieldNameFunction;
+        //Concurrent map with weak keys compares keys by identity
+        this.fields = concurrent ? new MapMaker().weakKeys().makeMap() : new IdentityHashMap<>();
+        this.parentFields = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    /**
+     * Gets schema fields.
+     *
+     * @param schema - schema
+     * @return schema fields
+     */
+    public List<F> getFields(Schema schema) {
+        var schemaFields = fields.get(schema);
+        if (schemaFields == null) {
+            schemaFields = createFields(schema);
+            fields.put(schema, schemaFields);
+        }
+        return schemaFields;
+    }
+
+    private List<F> createFields(Schema schema) {
+        if (!CollectionUtils.isEmpty(schema.getProperties())) {
+            return getSimpleFields(schema, getRequiredFields(schema));
+        } else if (!CollectionUtils.isEmpty(schema.getAllOf()) && schema.getAllOf().size() >= ALL_OF_SIZE) {
+            Schema child = schema.getAllOf().get(CHILD_SCHEMA_IDX);
+            List<F> allOfFields = new ArrayList<>(getParentFields(schema));
+            allOfFields.addAll(getSimpleFields(child, getRequiredFields(schema)));
+            return Collections.unmodifiableList(allOfFields);
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<F> getSimpleFields(Schema schema, List<String> requiredFields) {
+        if (CollectionUtils.isEmpty(schema.getProperties())) {
+            return Collections.emptyList();
+        }
+        List<F> simpleFields = new ArrayList<>(schema.getProperties().size());
+        schema.getProperties().forEach((name, fieldSchema) ->
+                simpleFields.add(fieldFactory.create(name, requiredFields.contains(name), fieldSchema)));
+        return Collections.unmodifiableList(simpleFields);
+    }
+
+    private List<String> getRequiredFields(Schema schema) {
+        return Optional.ofNullable(schema.getRequired()).orElse(Collections.emptyList());
+    }
+
+    private List<F> getParentFields(Schema schema) {
+        Deque<String> parentRefs = new ArrayDeque<>();
+        Set<String> visitedParentRefs = new HashSet<>();
+        List<F> resolvedFields = Collections.emptyList();
+        String parentRef = schema.getAllOf().iterator().next().getRef();
+        do {
+            Schema parentSchema = refIndex.getSchema(parentRef);
+            //Stops on unresolved reference or circular all of chain
+            if (parentSchema == null || !visitedParentRefs.add(parentRef)) {
+                break;
+            }
+            var memoizedFields = parentFields.get(parentRef);
+            if (memoizedFields != null) {
+                resolvedFields = memoizedFields;
+                break;
+            }
+            parentRefs.push(parentRef);
+            if (!CollectionUtils.isEmpty(parentSchema.getAllOf()) &&
+                    parentSchema.getAllOf().size() >= ALL_OF_SIZE) {
+                parentRef = parentSchema.getAllOf().iterator().next().getRef();
+            } else {
+                parentRef = null;
+            }
+        } while (parentRef != null);
+        while (!parentRefs.isEmpty()) {
+            String nextParentRef = parentRefs.pop();
+            resolvedFields = appendFields(resolvedFields, refIndex.getSchema(nextParentRef));
+            if (!refIndex.isCircularAllOf(nextParentRef)) {
+                parentFields.put(nextParentRef, resolvedFields);
+            }
+        }
+        return resolvedFields;
+    }
+
+    private List<F> appendFields(List<F> resolvedFields, Schema parentSchema) {
+        var parentSchemaFields = getSimpleFields(parentSchema, getRequiredFields(parentSchema));
+        if (parentSchemaFields.isEmpty()) {
+            return resolvedFields;
+        }
+        Set<String> fieldNames = new HashSet<>();
+        resolvedFields.forEach(field -> fieldNames.add(fieldNameFunction.apply(field)));
+        List<F> appendedFields = new ArrayList<>(resolvedFields.size() + parentSchemaFields.size());
+        appendedFields.addAll(resolvedFields);
+        parentSchemaFields.stream()
+                .filter(field -> fieldNames.add(fieldNameFunction.apply(field)))
+                .forEach(appendedFields::add);
+        return Collections.unmodifiableList(appendedFields);
+    }
+
+    /**
+     * Schema field factory.
+     *
+     * @param <F> - field generic type
+     */
+    @FunctionalInterface
+    public interface FieldFactory<F> {
+
+        /**
+         * Creates schema field.
+         *
+         * @param name     - field name
+         * @param required - is field required?
+         * @param schema   - field schema
+         * @return schema field
+         */
+        F create(String name, boolean required, Schema schema);
+    }
+}
@@ -0,0 +1,117 @@
+package com.openapi.converter.service.reference;
+
+import com.openapi.converter.dto.openapi.Example;
+import com.openapi.converter.dto.openapi.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Open api references index. Maps local component references (#/components/{type}/{name}) of schemas,
+ * examples, responses, parameters and request bodies to component nodes and holds all references used
+ * in open api with their locations. Components reachable from api operations and schemas with circular
+ * all of chains are computed once, when index is built.
+ *
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class RefIndex {
+
+    static final String COMPONENTS_REF_PREFIX = "#/components/";
+
+    private final Map<String, Object> components;
+
+    /**
+     * Distinct references usages in traversal order: paths first, then components
+     */
+    @Getter
+    private final List<RefUsage> refUsages;
+
+    private final Set<String> reachableRefs;
+    private final Set<String> circularAllOfRefs;
+
+    /**
+     * Gets references of all indexed components in declaration order.
+     *
+     * @return components references
+     */
+    public Collection<String> getComponentRefs() {
+        return components.keySet();
+    }
+
+    /**
+     * Checks that reference can be resolved. External references are not resolved by index,
+     * so they are considered resolvable.
+     *
+     * @param ref - reference
+     * @return {@code true} if reference is external or points to existing component
+     */
+    public boolean isResolvable(String ref) {
+        return !ref.startsWith(COMPONENTS_REF_PREFIX) || components.containsKey(ref);
+    }
+
+    /**
+     * Checks that component is referenced from api operations directly or through other components.
+     *
+     * @param ref - component reference
+     * @return {@code true} if component is reachable
+     */
+    public boolean isReachable(String ref) {
+        return reachableRefs.contains(ref);
+    }
+
+    /**
+     * Checks that schema component belongs to circular all of chain.
+     *
+     * @param ref - component reference
+     * @return {@code true} if schema all of chain is circular
+     */
+    public boolean isCircularAllOf(String ref) {
+        return circularAllOfRefs.contains(ref);
+    }
+
+    /**
+     * Gets component name of local component reference, for example {@code Pet} for
+     * {@code #/components/schemas/Pet}. Component name is used as schema reference in validation results.
+     *
+     * @param ref - reference
+     * @return component name for local component reference, reference itself otherwise
+     */
+    public static String getComponentName(String ref) {
+        if (ref == null || !ref.startsWith(COMPONENTS_REF_PREFIX)) {
+            return ref;
+        }
+        return StringUtils.substringAfterLast(ref, "/");
+    }
+
+    /**
+     * Gets schema component by reference.
+     *
+     * @param ref - schema reference
+     * @return schema or {@code null} if reference can't be resolved to schema
+     */
+    public Schema getSchema(String ref) {
+        return getComponent(ref, Schema.class);
+    }
+
+    /**
+     * Gets example component by reference.
+     *
+     * @param ref - example reference
+     * @return example or {@code null} if reference can't be resolved to example
+     */
+    public Example getExample(String ref) {
+        return getComponent(ref, Example.class);
+    }
+
+    private <T> T getComponent(String ref, Class<T> componentType) {
+        var component = ref != null ? components.get(ref) : null;
+        return componentType.isInstance(component) ? componentType.cast(component) : null;
+    }
+}
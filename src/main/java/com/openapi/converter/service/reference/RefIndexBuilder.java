@@ -0,0 +1,316 @@
+package com.openapi.converter.service.reference;
+
+import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.dto.openapi.Components;
+import com.openapi.converter.dto.openapi.Example;
+import com.openapi.converter.dto.openapi.MediaType;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.dto.openapi.Operation;
+import com.openapi.converter.dto.openapi.Parameter;
+import com.openapi.converter.dto.openapi.PathItem;
+import com.openapi.converter.dto.openapi.RequestBody;
+import com.openapi.converter.dto.openapi.Schema;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.openapi.converter.service.reference.RefIndex.COMPONENTS_REF_PREFIX;
+
+/**
+ * References index builder. Open api is traversed once to collect components and references graph,
+ * reachable components are found by breadth first search from references used in paths and circular all of
+ * chains are found as strongly connected components of all of graph, so the index is built in O(nodes + edges).
+ *
+ * @author Roman Batygin
+ */
+class RefIndexBuilder {
+
+    private static final String REF_FIELD = "$ref";
+
+    private final Map<String, Object> components = new LinkedHashMap<>();
+    private final Set<RefUsage> refUsages = new LinkedHashSet<>();
+    private final Set<String> rootRefs = new LinkedHashSet<>();
+    private final Map<String, Set<String>> componentRefs = new HashMap<>();
+    private final Map<String, List<String>> allOfRefs = new LinkedHashMap<>();
+
+    private String currentPath;
+    private Set<String> currentRefs;
+
+    /**
+     * Builds references index for open api.
+     *
+     * @param openApi - open api model
+     * @return references index
+     */
+    RefIndex build(OpenAPI openApi) {
+        registerComponents(openApi.getComponents());
+        if (openApi.getPaths() != null) {
+            currentRefs = rootRefs;
+            openApi.getPaths().forEach((path, pathItem) -> {
+                currentPath = path;
+                visitPathItem(pathItem);
+            });
+        }
+        currentPath = null;
+        components.forEach((ref, component) -> {
+            currentRefs = componentRefs.computeIfAbsent(ref, key -> new LinkedHashSet<>());
+            visitComponent(ref, component);
+        });
+        return new RefIndex(Collections.unmodifiableMap(components), List.copyOf(refUsages), findReachableRefs(),
+                findCircularAllOfRefs());
+    }
+
+    private void registerComponents(Components openApiComponents) {
+        if (openApiComponents == null) {
+            return;
+        }
+        registerComponents("schemas", openApiComponents.getSchemas());
+        registerComponents("responses", openApiComponents.getResponses());
+        registerComponents("parameters", openApiComponents.getParameters());
+        registerComponents("examples", openApiComponents.getExamples());
+        registerComponents("requestBodies", openApiComponents.getRequestBodies());
+    }
+
+    private void registerComponents(String componentsType, Map<String, ?> componentsMap) {
+        if (componentsMap != null) {
+            String refPrefix = COMPONENTS_REF_PREFIX + componentsType + "/";
+            componentsMap.forEach((name, component) -> components.put(refPrefix + name, component));
+        }
+    }
+
+    private void visitComponent(String ref, Object component) {
+        if (component instanceof Schema schema) {
+            visitSchema(schema);
+            List<String> schemaAllOfRefs = new ArrayList<>();
+            collectAllOfRefs(schema, schemaAllOfRefs);
+            allOfRefs.put(ref, schemaAllOfRefs);
+        } else if (component instanceof ApiResponse apiResponse) {
+            visitApiResponse(apiResponse);
+        } else if (component instanceof Parameter parameter) {
+            visitParameter(parameter);
+        } else if (component instanceof Example example) {
+            visitExample(example);
+        } else if (component instanceof RequestBody requestBody) {
+            visitRequestBody(requestBody);
+        }
+    }
+
+    private void visitPathItem(PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        addRef(pathItem.getRef());
+        forEach(pathItem.getParameters(), this::visitParameter);
+        Stream.of(pathItem.getGet(), pathItem.getPut(), pathItem.getPost(), pathItem.getDelete(),
+                        pathItem.getOptions(), pathItem.getHead(), pathItem.getPatch(), pathItem.getTrace())
+                .forEach(this::visitOperation);
+    }
+
+    private void visitOperation(Operation operation) {
+        if (operation == null) {
+            return;
+        }
+        forEach(operation.getParameters(), this::visitParameter);
+        visitRequestBody(operation.getRequestBody());
+        forEachValue(operation.getResponses(), this::visitApiResponse);
+    }
+
+    private void visitParameter(Parameter parameter) {
+        if (parameter == null) {
+            return;
+        }
+        addRef(parameter.getRef());
+        visitSchema(parameter.getSchema());
+        forEachValue(parameter.getExamples(), this::visitExample);
+        forEachValue(parameter.getContent(), this::visitMediaType);
+    }
+
+    private void visitRequestBody(RequestBody requestBody) {
+        if (requestBody == null) {
+            return;
+        }
+        addRef(requestBody.getRef());
+        forEachValue(requestBody.getContent(), this::visitMediaType);
+    }
+
+    private void visitApiResponse(ApiResponse apiResponse) {
+        if (apiResponse == null) {
+            return;
+        }
+        addRef(apiResponse.getRef());
+        forEachValue(apiResponse.getContent(), this::visitMediaType);
+    }
+
+    private void visitMediaType(MediaType mediaType) {
+        if (mediaType == null) {
+            return;
+        }
+        visitSchema(mediaType.getSchema());
+        forEachValue(mediaType.getExamples(), this::visitExample);
+    }
+
+    private void visitExample(Example example) {
+        if (example != null) {
+            addRef(example.getRef());
+        }
+    }
+
+    private void visitSchema(Schema schema) {
+        if (schema == null) {
+            return;
+        }
+        addRef(schema.getRef());
+        visitSchema(schema.getNot());
+        visitSchema(schema.getItems());
+        forEachValue(schema.getProperties(), this::visitSchema);
+        forEach(schema.getOneOf(), this::visitSchema);
+        forEach(schema.getAllOf(), this::visitSchema);
+        visitRawNode(schema.getAdditionalProperties());
+    }
+
+    /**
+     * Visits untyped node (for example additional properties schema) deserialized as maps and lists.
+     *
+     * @param node - untyped node
+     */
+    private void visitRawNode(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            if (map.get(REF_FIELD) instanceof String ref) {
+                addRef(ref);
+            }
+            map.values().forEach(this::visitRawNode);
+        } else if (node instanceof List<?> list) {
+            list.forEach(this::visitRawNode);
+        }
+    }
+
+    private void collectAllOfRefs(Schema schema, List<String> schemaAllOfRefs) {
+        if (schema.getAllOf() == null) {
+            return;
+        }
+        for (var parentSchema : schema.getAllOf()) {
+            if (parentSchema == null) {
+                continue;
+            }
+            if (StringUtils.isNotEmpty(parentSchema.getRef())) {
+                schemaAllOfRefs.add(parentSchema.getRef());
+            } else {
+                collectAllOfRefs(parentSchema, schemaAllOfRefs);
+            }
+        }
+    }
+
+    private void addRef(String ref) {
+        if (StringUtils.isNotEmpty(ref)) {
+            refUsages.add(new RefUsage(ref, currentPath));
+            currentRefs.add(ref);
+        }
+    }
+
+    private Set<String> findReachableRefs() {
+        Set<String> reachableRefs = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (var ref : rootRefs) {
+            if (components.containsKey(ref) && reachableRefs.add(ref)) {
+                queue.add(ref);
+            }
+        }
+        while (!queue.isEmpty()) {
+            for (var ref : componentRefs.getOrDefault(queue.poll(), Collections.emptySet())) {
+                if (components.containsKey(ref) && reachableRefs.add(ref)) {
+                    queue.add(ref);
+                }
+            }
+        }
+        return reachableRefs;
+    }
+
+    /**
+     * Finds schemas belonging to circular all of chains with iterative Tarjan's strongly connected
+     * components algorithm. Schema is circular if its component contains several schemas or schema
+     * refers to itself.
+     *
+     * @return circular schemas references
+     */
+    private Set<String> findCircularAllOfRefs() {
+        Map<String, Integer> indexes = new HashMap<>();
+        Map<String, Integer> lowLinks = new HashMap<>();
+        Deque<String> componentStack = new ArrayDeque<>();
+        Set<String> componentStackRefs = new HashSet<>();
+        Deque<Map.Entry<String, Iterator<String>>> callStack = new ArrayDeque<>();
+        Set<String> circularRefs = new HashSet<>();
+        for (var startRef : allOfRefs.keySet()) {
+            if (indexes.containsKey(startRef)) {
+                continue;
+            }
+            callStack.push(Map.entry(startRef, allOfRefs.get(startRef).iterator()));
+            indexes.put(startRef, indexes.size());
+            lowLinks.put(startRef, indexes.get(startRef));
+            componentStack.push(startRef);
+            componentStackRefs.add(startRef);
+            while (!callStack.isEmpty()) {
+                String ref = callStack.peek().getKey();
+                var nextRefs = callStack.peek().getValue();
+                if (nextRefs.hasNext()) {
+                    String nextRef = nextRefs.next();
+                    if (!allOfRefs.containsKey(nextRef)) {
+                        continue;
+                    }
+                    if (!indexes.containsKey(nextRef)) {
+                        callStack.push(Map.entry(nextRef, allOfRefs.get(nextRef).iterator()));
+                        indexes.put(nextRef, indexes.size());
+                        lowLinks.put(nextRef, indexes.get(nextRef));
+                        componentStack.push(nextRef);
+                        componentStackRefs.add(nextRef);
+                    } else if (componentStackRefs.contains(nextRef)) {
+                        lowLinks.put(ref, Math.min(lowLinks.get(ref), indexes.get(nextRef)));
+                    }
+                    continue;
+                }
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    String parentRef = callStack.peek().getKey();
+                    lowLinks.put(parentRef, Math.min(lowLinks.get(parentRef), lowLinks.get(ref)));
+                }
+                if (lowLinks.get(ref).equals(indexes.get(ref))) {
+                    List<String> component = new ArrayList<>();
+                    String componentRef;
+                    do {
+                        componentRef = componentStack.pop();
+                        componentStackRefs.remove(componentRef);
+                        component.add(componentRef);
+                    } while (!componentRef.equals(ref));
+                    if (component.size() > 1 || allOfRefs.get(ref).contains(ref)) {
+                        circularRefs.addAll(component);
+                    }
+                }
+            }
+        }
+        return circularRefs;
+    }
+
+    private static <T> void forEach(List<T> list, Consumer<T> consumer) {
+        if (list != null) {
+            list.forEach(consumer);
+        }
+    }
+
+    private static <T> void forEachValue(Map<String, T> map, Consumer<T> consumer) {
+        if (map != null) {
+            map.values().forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.openapi.converter.service.reference;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * References index service. Index is built once per open api model: indexes are cached by open api model
+ * identity with weak keys, so report building and validation of the same cached model share the index,
+ * and index is released together with the model.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Service
+public class RefIndexService {
+
+    private final LoadingCache<OpenAPI, RefIndex> refIndexes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(this::buildRefIndex));
+
+    /**
+     * Gets references index for open api model.
+     *
+     * @param openApi - open api model
+     * @return references index
+     */
+    public RefIndex getRefIndex(OpenAPI openApi) {
+        return refIndexes.getUnchecked(openApi);
+    }
+
+    private RefIndex buildRefIndex(OpenAPI openApi) {
+        var refIndex = new RefIndexBuilder().build(openApi);
+        log.info("References index has been built: [{}] components, [{}] references",
+                refIndex.getComponentRefs().size(), refIndex.getRefUsages().size());
+        return refIndex;
+    }
+}
@@ -0,0 +1,11 @@
+package com.openapi.converter.service.reference;
+
+/**
+ * Reference usage in open api.
+ *
+ * @param ref  - reference value
+ * @param path - endpoint path, where reference is used or {@code null} if reference is used in components
+ * @author Roman Batygin
+ */
+public record RefUsage(String ref, String path) {
+}
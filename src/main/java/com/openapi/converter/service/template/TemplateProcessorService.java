@@ -1,8 +1,11 @@
 package com.openapi.converter.service.template;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -22,4 +25,17 @@ public interface TemplateProcessorService {
      */
     @NotBlank
     String process(@NotBlank String templateCode, Map<String, Object> variables);
+
+    /**
+     * Processes template into writer without building result string. Template errors are thrown as
+     * {@link com.openapi.converter.exception.TemplateProcessingException}, writer I/O errors (for example client
+     * disconnect) are thrown as is.
+     *
+     * @param templateCode - template code
+     * @param variables    - template variables map
+     * @param writer       - writer
+     * @throws IOException in case of writer I/O error
+     */
+    void process(@NotBlank String templateCode, Map<String, Object> variables, @NotNull Writer writer)
+            throws IOException;
 }
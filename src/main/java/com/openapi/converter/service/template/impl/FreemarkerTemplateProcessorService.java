@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processTemplateIntoString;
@@ -39,4 +40,26 @@ public class FreemarkerTemplateProcessorService implements TemplateProcessorServ
             throw new TemplateProcessingException(ex.getMessage());
         }
     }
+
+    @Override
+    public void process(String templateCode, Map<String, Object> variables, Writer writer) throws IOException {
+        log.debug("Starting to process template [{}] into writer", templateCode);
+        Template template = getTemplate(templateCode);
+        try {
+            template.process(variables, writer);
+            log.debug("Template [{}] has been processed into writer", templateCode);
+        } catch (TemplateException ex) {
+            log.error("There was an error while template [{}] processing: {}", templateCode, ex.getMessage());
+            throw new TemplateProcessingException(ex.getMessage());
+        }
+    }
+
+    private Template getTemplate(String templateCode) {
+        try {
+            return configuration.getTemplate(templateCode);
+        } catch (IOException ex) {
+            log.error("There was an error while template [{}] loading: {}", templateCode, ex.getMessage());
+            throw new TemplateProcessingException(ex.getMessage());
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.dto.openapi.Info;
+import com.openapi.converter.dto.openapi.MediaType;
+import com.openapi.converter.dto.openapi.Operation;
+import com.openapi.converter.dto.openapi.Parameter;
+import com.openapi.converter.dto.openapi.Schema;
+import com.openapi.converter.model.validation.NodeKind;
+import com.openapi.converter.model.validation.Rule;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.util.List;
+
+import static com.openapi.converter.util.Utils.hasExample;
+import static com.openapi.converter.util.Utils.hasMaxItems;
+import static com.openapi.converter.util.Utils.hasMaxLength;
+import static com.openapi.converter.util.Utils.hasMaximum;
+import static com.openapi.converter.util.Utils.hasMinimum;
+
+/**
+ * Default validation rule checkers. Checkers of the same node kind are applied in declaration order.
+ *
+ * @author Roman Batygin
+ */
+@UtilityClass
+public class DefaultRuleCheckers {
+
+    private static final String ARRAY_TYPE = "array";
+
+    private static final List<RuleChecker<?>> RULE_CHECKERS = List.of(
+            RuleChecker.<Info>of(Rule.API_TITLE_REQUIRED, NodeKind.INFO,
+                    (info, context) -> info == null || StringUtils.isEmpty(info.getTitle())),
+            RuleChecker.<Info>of(Rule.API_VERSION_REQUIRED, NodeKind.INFO,
+                    (info, context) -> info == null || StringUtils.isEmpty(info.getVersion())),
+            RuleChecker.<Info>of(Rule.API_DESCRIPTION_REQUIRED, NodeKind.INFO,
+                    (info, context) -> info == null || StringUtils.isEmpty(info.getDescription())),
+            RuleChecker.<Info>of(Rule.API_CONTACT_NAME_REQUIRED, NodeKind.INFO,
+                    (info, context) -> info == null || info.getContact() == null ||
+                            StringUtils.isEmpty(info.getContact().getName())),
+            RuleChecker.<Info>of(Rule.API_CONTACT_EMAIL_REQUIRED, NodeKind.INFO,
+                    (info, context) -> info == null || info.getContact() == null ||
+                            StringUtils.isEmpty(info.getContact().getEmail())),
+            RuleChecker.<Operation>of(Rule.API_OPERATION_DESCRIPTION_REQUIRED, NodeKind.OPERATION,
+                    (operation, context) -> StringUtils.isEmpty(operation.getDescription())),
+            RuleChecker.<Operation>of(Rule.API_OPERATION_SUMMARY_REQUIRED, NodeKind.OPERATION,
+                    (operation, context) -> StringUtils.isEmpty(operation.getSummary())),
+            RuleChecker.<Parameter>of(Rule.REQUEST_PARAMETER_DESCRIPTION_REQUIRED, NodeKind.PARAMETER,
+                    (parameter, context) -> StringUtils.isEmpty(parameter.getDescription())),
+            RuleChecker.<Parameter>of(Rule.REQUEST_PARAMETER_EXAMPLE_REQUIRED, NodeKind.PARAMETER,
+                    (parameter, context) -> StringUtils.isEmpty(parameter.getExample())),
+            RuleChecker.<Schema>of(Rule.REQUEST_PARAMETER_MAXIMUM_REQUIRED, NodeKind.PARAMETER_SCHEMA,
+                    (schema, context) -> !hasMaximum(schema)),
+            RuleChecker.<Schema>of(Rule.REQUEST_PARAMETER_MINIMUM_REQUIRED, NodeKind.PARAMETER_SCHEMA,
+                    (schema, context) -> !hasMinimum(schema)),
+            RuleChecker.<Schema>of(Rule.REQUEST_PARAMETER_MAX_LENGTH_REQUIRED, NodeKind.PARAMETER_SCHEMA,
+                    (schema, context) -> !hasMaxLength(schema)),
+            RuleChecker.<Schema>of(Rule.REQUEST_PARAMETER_MAX_ITEMS_REQUIRED, NodeKind.PARAMETER_SCHEMA,
+                    (schema, context) -> !hasMaxItems(schema)),
+            RuleChecker.<MediaType>of(Rule.REQUEST_BODY_EXAMPLE_REQUIRED, NodeKind.REQUEST_BODY,
+                    (mediaType, context) -> !hasExample(mediaType)),
+            RuleChecker.<ApiResponse>of(Rule.API_RESPONSE_DESCRIPTION_REQUIRED, NodeKind.RESPONSE,
+                    (apiResponse, context) -> StringUtils.isEmpty(apiResponse.getDescription())),
+            RuleChecker.<ApiResponse>of(Rule.API_RESPONSE_EXAMPLE_REQUIRED, NodeKind.RESPONSE,
+                    (apiResponse, context) -> !hasExample(apiResponse.getContent().values().iterator().next())),
+            RuleChecker.<Schema>of(Rule.SCHEMA_DESCRIPTION_REQUIRED, NodeKind.SCHEMA,
+                    (schema, context) -> StringUtils.isEmpty(schema.getDescription())),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_DESCRIPTION_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> !ARRAY_TYPE.equals(schema.getType()) &&
+                            StringUtils.isEmpty(schema.getRef()) && CollectionUtils.isEmpty(schema.getOneOf()) &&
+                            StringUtils.isEmpty(schema.getDescription())),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_EXAMPLE_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> StringUtils.isEmpty(schema.getExample())),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_MAXIMUM_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> !hasMaximum(schema)),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_MINIMUM_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> !hasMinimum(schema)),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_MAX_LENGTH_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> !hasMaxLength(schema)),
+            RuleChecker.<Schema>of(Rule.SCHEMA_PROPERTY_MAX_ITEMS_REQUIRED, NodeKind.SCHEMA_PROPERTY,
+                    (schema, context) -> !hasMaxItems(schema)),
+            RuleChecker.<String>of(Rule.UNRESOLVED_REFERENCE, NodeKind.REFERENCE,
+                    (ref, context) -> !context.getRefIndex().isResolvable(ref)),
+            RuleChecker.<String>of(Rule.CIRCULAR_ALL_OF_SCHEMA, NodeKind.COMPONENT,
+                    (ref, context) -> context.getRefIndex().isCircularAllOf(ref)),
+            RuleChecker.<String>of(Rule.UNREACHABLE_COMPONENT, NodeKind.COMPONENT,
+                    (ref, context) -> !context.getRefIndex().isReachable(ref))
+    );
+
+    /**
+     * Gets default rule checkers.
+     *
+     * @return rule checkers list
+     */
+    public static List<RuleChecker<?>> getRuleCheckers() {
+        return RULE_CHECKERS;
+    }
+}
@@ -0,0 +1,67 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.NodeKind;
+import com.openapi.converter.model.validation.Rule;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Validation rule checker bound to open api node kind.
+ *
+ * @param <T> - node type
+ * @author Roman Batygin
+ */
+public interface RuleChecker<T> {
+
+    /**
+     * Gets checked rule.
+     *
+     * @return rule
+     */
+    Rule getRule();
+
+    /**
+     * Gets node kind to which checker is bound.
+     *
+     * @return node kind
+     */
+    NodeKind getNodeKind();
+
+    /**
+     * Checks that node violates the rule.
+     *
+     * @param node    - open api node
+     * @param context - validation context with current node location
+     * @return {@code true} if node violates the rule, {@code false} otherwise
+     */
+    boolean isViolated(T node, ValidationContext context);
+
+    /**
+     * Creates rule checker.
+     *
+     * @param rule      - rule
+     * @param nodeKind  - node kind
+     * @param violation - rule violation predicate
+     * @param <T>       - node type
+     * @return rule checker
+     */
+    static <T> RuleChecker<T> of(Rule rule, NodeKind nodeKind, BiPredicate<T, ValidationContext> violation) {
+        return new RuleChecker<>() {
+
+            @Override
+            public Rule getRule() {
+                return rule;
+            }
+
+            @Override
+            public NodeKind getNodeKind() {
+                return nodeKind;
+            }
+
+            @Override
+            public boolean isViolated(T node, ValidationContext context) {
+                return violation.test(node, context);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.NodeKind;
+import com.openapi.converter.service.ValidationRuleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Registry of validation rule checkers grouped by node kind. Consists of default rule checkers
+ * followed by rule checkers registered as beans. Checkers of disabled rules are not registered,
+ * so node kinds without enabled rules are not visited at all.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+public class RuleCheckerRegistry {
+
+    private static final RuleChecker<?>[] EMPTY = new RuleChecker<?>[0];
+
+    private final Map<NodeKind, RuleChecker<?>[]> ruleCheckers = new EnumMap<>(NodeKind.class);
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param validationRuleService  - validation rule service
+     * @param additionalRuleCheckers - rule checkers registered as beans
+     */
+    public RuleCheckerRegistry(ValidationRuleService validationRuleService,
+                               ObjectProvider<RuleChecker<?>> additionalRuleCheckers) {
+        Map<NodeKind, List<RuleChecker<?>>> ruleCheckersByKind = new EnumMap<>(NodeKind.class);
+        Stream.concat(DefaultRuleCheckers.getRuleCheckers().stream(), additionalRuleCheckers.orderedStream())
+                .filter(ruleChecker -> validationRuleService.isEnabled(ruleChecker.getRule()))
+                .forEach(ruleChecker -> ruleCheckersByKind.computeIfAbsent(ruleChecker.getNodeKind(),
+                        nodeKind -> new ArrayList<>()).add(ruleChecker));
+        ruleCheckersByKind.forEach((nodeKind, nodeKindRuleCheckers) ->
+                ruleCheckers.put(nodeKind, nodeKindRuleCheckers.toArray(EMPTY)));
+        log.info("Rule checkers have been registered for node kinds: {}", ruleCheckers.keySet());
+    }
+
+    /**
+     * Gets rule checkers for specified node kind.
+     *
+     * @param nodeKind - node kind
+     * @return rule checkers array
+     */
+    public RuleChecker<?>[] getRuleCheckers(NodeKind nodeKind) {
+        return ruleCheckers.getOrDefault(nodeKind, EMPTY);
+    }
+
+    /**
+     * Checks that there are rule checkers for specified node kind.
+     *
+     * @param nodeKind - node kind
+     * @return {@code true} if there are rule checkers, {@code false} otherwise
+     */
+    public boolean hasRuleCheckers(NodeKind nodeKind) {
+        return ruleCheckers.containsKey(nodeKind);
+    }
+}
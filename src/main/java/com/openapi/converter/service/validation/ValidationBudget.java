@@ -0,0 +1,110 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.ValidationBudgetLimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validation budget of single open api validation: max. duration, max. number of visited nodes and max. number
+ * of validation results. Budget is shared by all fragments of the validated open api, including fragments
+ * validated in parallel. Once any limit is exceeded, validation rule engine stops visiting nodes and
+ * results above the limit are dropped, so validation finishes with partial results.
+ *
+ * @author Roman Batygin
+ */
+public class ValidationBudget {
+
+    private final long startNanos = System.nanoTime();
+    private final long maxDurationNanos;
+    private final long maxVisitedNodes;
+    private final long maxResults;
+
+    private final AtomicLong visitedNodes = new AtomicLong();
+    private final AtomicLong results = new AtomicLong();
+    private final AtomicReference<ValidationBudgetLimit> exceededLimit = new AtomicReference<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param maxDuration     - max. validation duration
+     * @param maxVisitedNodes - max. number of visited open api nodes
+     * @param maxResults      - max. number of validation results
+     */
+    public ValidationBudget(Duration maxDuration, long maxVisitedNodes, long maxResults) {
+        this.maxDurationNanos = maxDuration.toNanos();
+        this.maxVisitedNodes = maxVisitedNodes;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Creates budget without limits.
+     *
+     * @return validation budget
+     */
+    public static ValidationBudget unlimited() {
+        return new ValidationBudget(Duration.ofNanos(Long.MAX_VALUE), Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks that budget is exceeded.
+     *
+     * @return {@code true} if any budget limit is exceeded
+     */
+    public boolean isExceeded() {
+        return exceededLimit.get() != null;
+    }
+
+    /**
+     * Gets the first exceeded budget limit.
+     *
+     * @return exceeded budget limit or {@code null} if budget is not exceeded
+     */
+    public ValidationBudgetLimit getExceededLimit() {
+        return exceededLimit.get();
+    }
+
+    /**
+     * Wraps sink, so that results above max. results limit are dropped.
+     *
+     * @param sink - validation results sink
+     * @return validation results sink limited by budget
+     */
+    public ValidationResultSink limit(ValidationResultSink sink) {
+        return (rule, context) -> {
+            if (isExceeded()) {
+                return;
+            }
+            if (results.incrementAndGet() > maxResults) {
+                exceed(ValidationBudgetLimit.MAX_RESULTS);
+                return;
+            }
+            sink.accept(rule, context);
+        };
+    }
+
+    /**
+     * Charges budget for the next visited node.
+     *
+     * @return {@code true} if node can be visited, {@code false} if budget is exceeded
+     */
+    boolean visitNode() {
+        if (isExceeded()) {
+            return false;
+        }
+        if (visitedNodes.incrementAndGet() > maxVisitedNodes) {
+            exceed(ValidationBudgetLimit.MAX_VISITED_NODES);
+            return false;
+        }
+        if (System.nanoTime() - startNanos > maxDurationNanos) {
+            exceed(ValidationBudgetLimit.MAX_DURATION);
+            return false;
+        }
+        return true;
+    }
+
+    private void exceed(ValidationBudgetLimit limit) {
+        exceededLimit.compareAndSet(null, limit);
+    }
+}
@@ -0,0 +1,88 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.service.reference.RefIndex;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Validation context. Holds validated open api and mutable cursor of the current node location, which is
+ * reused for all visited nodes.
+ *
+ * @author Roman Batygin
+ */
+@Getter
+public class ValidationContext {
+
+    /**
+     * Validated open api
+     */
+    private final OpenAPI openApi;
+
+    /**
+     * Endpoint path
+     */
+    private String path;
+
+    /**
+     * Schema reference
+     */
+    private String schemaRef;
+
+    /**
+     * Request parameter or schema property
+     */
+    private String parameterOrProperty;
+
+    /**
+     * Response code
+     */
+    private String responseCode;
+
+    /**
+     * Validation budget
+     */
+    private final ValidationBudget budget;
+
+    /**
+     * Open api references index, available only for references fragment
+     */
+    @Setter(AccessLevel.PACKAGE)
+    private RefIndex refIndex;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param openApi - validated open api
+     */
+    public ValidationContext(OpenAPI openApi) {
+        this(openApi, ValidationBudget.unlimited());
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param openApi - validated open api
+     * @param budget  - validation budget
+     */
+    public ValidationContext(OpenAPI openApi, ValidationBudget budget) {
+        this.openApi = openApi;
+        this.budget = budget;
+    }
+
+    /**
+     * Moves cursor to specified node location.
+     *
+     * @param path                - endpoint path
+     * @param schemaRef           - schema reference
+     * @param parameterOrProperty - request parameter or schema property
+     * @param responseCode        - response code
+     */
+    void moveTo(String path, String schemaRef, String parameterOrProperty, String responseCode) {
+        this.path = path;
+        this.schemaRef = schemaRef;
+        this.parameterOrProperty = parameterOrProperty;
+        this.responseCode = responseCode;
+    }
+}
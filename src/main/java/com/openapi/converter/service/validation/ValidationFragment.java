@@ -0,0 +1,68 @@
+package com.openapi.converter.service.validation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Independently validated open api fragment: api info, path, component schema or references of whole open api.
+ *
+ * @author Roman Batygin
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+@RequiredArgsConstructor
+public class ValidationFragment {
+
+    /**
+     * Fragment type
+     */
+    @ToString.Include
+    private final Type type;
+
+    /**
+     * Fragment key (endpoint path or schema reference)
+     */
+    @ToString.Include
+    private final String key;
+
+    /**
+     * Fragment node
+     */
+    private final Object node;
+
+    /**
+     * Checks that fragment validation results depend only on fragment node itself.
+     *
+     * @return {@code true} if fragment is self-contained
+     */
+    public boolean isSelfContained() {
+        return type != Type.REFERENCES;
+    }
+
+    /**
+     * Fragment types.
+     */
+    public enum Type {
+
+        /**
+         * Api info
+         */
+        INFO,
+
+        /**
+         * Path
+         */
+        PATH,
+
+        /**
+         * Component schema
+         */
+        SCHEMA,
+
+        /**
+         * References and components of whole open api
+         */
+        REFERENCES
+    }
+}
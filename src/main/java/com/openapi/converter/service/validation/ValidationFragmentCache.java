@@ -0,0 +1,96 @@
+package com.openapi.converter.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.service.ValidationRuleService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Content addressed cache of validation results for open api fragments. Results are keyed by fragment hash,
+ * calculated over fragment type, key, content and validation rules version, so unchanged paths and component
+ * schemas of any previously validated open api version are not validated again. Fragment results must depend
+ * only on fragment itself, so custom rule checkers must not inspect other parts of open api.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValidationFragmentCache {
+
+    private static final byte FIELD_DELIMITER = 0;
+
+    private final AppProperties appProperties;
+    private final ObjectMapper openApiObjectMapper;
+    private final ValidationRuleService validationRuleService;
+
+    private Cache<String, ValidationResultRecorder> cache;
+
+    /**
+     * Initializes fragments cache.
+     */
+    @PostConstruct
+    public void initialize() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(appProperties.getValidation().getFragmentCacheMaxSize())
+                .build();
+    }
+
+    /**
+     * Calculates fragment hash.
+     *
+     * @param fragment - open api fragment
+     * @return fragment hash
+     */
+    public String getFragmentHash(ValidationFragment fragment) {
+        var hasher = Hashing.sha256().newHasher();
+        putString(hasher, fragment.getType().name());
+        putString(hasher, fragment.getKey());
+        putString(hasher, validationRuleService.getValidationRulesVersion());
+        try {
+            openApiObjectMapper.writeValue(Funnels.asOutputStream(hasher), fragment.getNode());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Gets cached fragment validation results.
+     *
+     * @param fragmentHash - fragment hash
+     * @return recorded validation results or {@code null} if fragment has not been validated yet
+     */
+    public ValidationResultRecorder get(String fragmentHash) {
+        return cache.getIfPresent(fragmentHash);
+    }
+
+    /**
+     * Puts fragment validation results into cache. Recorded results must not be modified afterwards.
+     *
+     * @param fragmentHash             - fragment hash
+     * @param validationResultRecorder - recorded validation results
+     */
+    public void put(String fragmentHash, ValidationResultRecorder validationResultRecorder) {
+        cache.put(fragmentHash, validationResultRecorder);
+    }
+
+    private void putString(Hasher hasher, String value) {
+        if (value != null) {
+            hasher.putString(value, StandardCharsets.UTF_8);
+        }
+        hasher.putByte(FIELD_DELIMITER);
+    }
+}
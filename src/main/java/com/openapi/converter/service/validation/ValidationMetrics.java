@@ -0,0 +1,66 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.Rule;
+import com.openapi.converter.model.validation.Severity;
+import com.openapi.converter.model.validation.ValidationBudgetLimit;
+import com.openapi.converter.service.ValidationRuleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Validation metrics. Rule violations of each validation are published as counters tagged with rule
+ * and severity, so findings distribution is available without per finding log entries.
+ *
+ * @author Roman Batygin
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationMetrics {
+
+    private static final String RESULTS_COUNTER_NAME = "open.api.validation.results";
+    private static final String VALIDATIONS_COUNTER_NAME = "open.api.validation.validations";
+    private static final String BUDGET_EXCEEDED_COUNTER_NAME = "open.api.validation.budget.exceeded";
+    private static final String LIMIT_TAG = "limit";
+    private static final String RULE_TAG = "rule";
+    private static final String SEVERITY_TAG = "severity";
+
+    private final MeterRegistry meterRegistry;
+    private final ValidationRuleService validationRuleService;
+
+    /**
+     * Publishes counted validation results and tallies them by severity.
+     *
+     * @param validationResultCounter - counted validation results
+     * @return validation results count by severity
+     */
+    public Map<Severity, Long> record(ValidationResultCounter validationResultCounter) {
+        meterRegistry.counter(VALIDATIONS_COUNTER_NAME).increment();
+        Map<Severity, Long> severityCounts = new EnumMap<>(Severity.class);
+        for (var severity : Severity.values()) {
+            severityCounts.put(severity, 0L);
+        }
+        for (var rule : Rule.values()) {
+            long count = validationResultCounter.getCount(rule);
+            if (count > 0) {
+                var severity = validationRuleService.getValidationRuleConfig(rule).getSeverity();
+                severityCounts.merge(severity, count, Long::sum);
+                meterRegistry.counter(RESULTS_COUNTER_NAME, RULE_TAG, rule.name(), SEVERITY_TAG, severity.name())
+                        .increment(count);
+            }
+        }
+        return severityCounts;
+    }
+
+    /**
+     * Publishes validation stopped because of exceeded budget.
+     *
+     * @param limit - exceeded budget limit
+     */
+    public void recordBudgetExceeded(ValidationBudgetLimit limit) {
+        meterRegistry.counter(BUDGET_EXCEEDED_COUNTER_NAME, LIMIT_TAG, limit.name()).increment();
+    }
+}
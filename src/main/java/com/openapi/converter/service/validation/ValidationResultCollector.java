@@ -0,0 +1,31 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.Rule;
+import com.openapi.converter.model.validation.ValidationResults;
+import com.openapi.converter.service.ValidationRuleService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Validation results sink collecting results into the compact results container in traversal order.
+ *
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor
+public class ValidationResultCollector implements ValidationResultSink {
+
+    private final ValidationRuleService validationRuleService;
+
+    /**
+     * Collected validation results
+     */
+    @Getter
+    private final ValidationResults validationResults = new ValidationResults();
+
+    @Override
+    public void accept(Rule rule, ValidationContext context) {
+        var severity = validationRuleService.getValidationRuleConfig(rule).getSeverity();
+        validationResults.add(rule, severity, context.getPath(), context.getSchemaRef(),
+                context.getParameterOrProperty(), context.getResponseCode());
+    }
+}
@@ -0,0 +1,41 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.Rule;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Validation results sink counting rule violations per rule before passing them to the target sink.
+ *
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor
+public class ValidationResultCounter implements ValidationResultSink {
+
+    private final ValidationResultSink sink;
+
+    private final long[] ruleCounters = new long[Rule.values().length];
+
+    /**
+     * Total rule violations count
+     */
+    @Getter
+    private long totalCount;
+
+    @Override
+    public void accept(Rule rule, ValidationContext context) {
+        ruleCounters[rule.ordinal()]++;
+        totalCount++;
+        sink.accept(rule, context);
+    }
+
+    /**
+     * Gets specified rule violations count.
+     *
+     * @param rule - rule
+     * @return rule violations count
+     */
+    public long getCount(Rule rule) {
+        return ruleCounters[rule.ordinal()];
+    }
+}
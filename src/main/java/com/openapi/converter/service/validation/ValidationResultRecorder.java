@@ -0,0 +1,52 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.model.validation.Rule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validation results sink recording rule violations with their locations, so they can be replayed later
+ * into another sink in the original order.
+ *
+ * @author Roman Batygin
+ */
+public class ValidationResultRecorder implements ValidationResultSink {
+
+    private final List<RecordedViolation> recordedViolations = new ArrayList<>();
+
+    @Override
+    public void accept(Rule rule, ValidationContext context) {
+        recordedViolations.add(new RecordedViolation(rule, context.getPath(), context.getSchemaRef(),
+                context.getParameterOrProperty(), context.getResponseCode()));
+    }
+
+    /**
+     * Replays recorded rule violations into specified sink.
+     *
+     * @param openApi - validated open api
+     * @param sink    - target validation results sink
+     */
+    public void replay(OpenAPI openApi, ValidationResultSink sink) {
+        var context = new ValidationContext(openApi);
+        for (var recordedViolation : recordedViolations) {
+            context.moveTo(recordedViolation.path(), recordedViolation.schemaRef(),
+                    recordedViolation.parameterOrProperty(), recordedViolation.responseCode());
+            sink.accept(recordedViolation.rule(), context);
+        }
+    }
+
+    /**
+     * Recorded rule violation.
+     *
+     * @param rule                - violated rule
+     * @param path                - endpoint path
+     * @param schemaRef           - schema reference
+     * @param parameterOrProperty - request parameter or schema property
+     * @param responseCode        - response code
+     */
+    private record RecordedViolation(Rule rule, String path, String schemaRef, String parameterOrProperty,
+                                     String responseCode) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.model.validation.Rule;
+
+/**
+ * Sink of rule violations found during single open api traversal.
+ *
+ * @author Roman Batygin
+ */
+public interface ValidationResultSink {
+
+    /**
+     * Accepts rule violation at the current node location.
+     *
+     * @param rule    - violated rule
+     * @param context - validation context with current node location
+     */
+    void accept(Rule rule, ValidationContext context);
+}
@@ -0,0 +1,237 @@
+package com.openapi.converter.service.validation;
+
+import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.dto.openapi.MediaType;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.dto.openapi.Operation;
+import com.openapi.converter.dto.openapi.Parameter;
+import com.openapi.converter.dto.openapi.PathItem;
+import com.openapi.converter.dto.openapi.Schema;
+import com.openapi.converter.exception.OperationNotSpecifiedException;
+import com.openapi.converter.model.validation.NodeKind;
+import com.openapi.converter.service.ValidationRuleService;
+import com.openapi.converter.service.reference.RefIndex;
+import com.openapi.converter.service.reference.RefIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.openapi.converter.util.Utils.getOperation;
+
+/**
+ * Validation rule engine. Open api is traversed once, each visited node is dispatched only to the rule checkers
+ * bound to its kind and all rule violations are passed to the single sink. Nodes are visited in the following order:
+ * api info, then for each path operation, its request parameters with their schemas, request body and responses,
+ * then component schemas with their properties and properties of their parent (all of) schemas, then references
+ * used in open api and components from the references index. Api info, each path and each component schema
+ * are independent fragments, which may be validated separately. References are validated as a single fragment,
+ * because references integrity depends on whole open api.
+ * Rules with endpoint path globs are checked only for matching paths. Each visited node is charged to the validation
+ * budget, traversal is stopped cooperatively as soon as the budget is exceeded.
+ *
+ * @author Roman Batygin
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationRuleEngine {
+
+    private final RuleCheckerRegistry ruleCheckerRegistry;
+    private final ValidationRuleService validationRuleService;
+    private final RefIndexService refIndexService;
+
+    /**
+     * Validates specified open api.
+     *
+     * @param openApi - open api model
+     * @param budget  - validation budget
+     * @param sink    - validation results sink
+     */
+    public void validate(OpenAPI openApi, ValidationBudget budget, ValidationResultSink sink) {
+        var context = new ValidationContext(openApi, budget);
+        for (var fragment : getFragments(openApi)) {
+            if (budget.isExceeded()) {
+                return;
+            }
+            validate(fragment, context, sink);
+        }
+    }
+
+    /**
+     * Validates specified open api fragment.
+     *
+     * @param openApi  - open api model
+     * @param fragment - open api fragment
+     * @param budget   - validation budget
+     * @param sink     - validation results sink
+     */
+    public void validate(OpenAPI openApi, ValidationFragment fragment, ValidationBudget budget,
+                         ValidationResultSink sink) {
+        if (!budget.isExceeded()) {
+            validate(fragment, new ValidationContext(openApi, budget), sink);
+        }
+    }
+
+    /**
+     * Splits open api into independent fragments in traversal order.
+     *
+     * @param openApi - open api model
+     * @return fragments list
+     */
+    public List<ValidationFragment> getFragments(OpenAPI openApi) {
+        List<ValidationFragment> fragments = new ArrayList<>();
+        fragments.add(new ValidationFragment(ValidationFragment.Type.INFO, null, openApi.getInfo()));
+        if (openApi.getPaths() != null) {
+            for (Map.Entry<String, PathItem> pathEntry : openApi.getPaths().entrySet()) {
+                fragments.add(new ValidationFragment(ValidationFragment.Type.PATH, pathEntry.getKey(),
+                        pathEntry.getValue()));
+            }
+        }
+        if (openApi.getComponents() != null && openApi.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> schemaEntry : openApi.getComponents().getSchemas().entrySet()) {
+                fragments.add(new ValidationFragment(ValidationFragment.Type.SCHEMA, schemaEntry.getKey(),
+                        schemaEntry.getValue()));
+            }
+        }
+        if (ruleCheckerRegistry.hasRuleCheckers(NodeKind.REFERENCE) ||
+                ruleCheckerRegistry.hasRuleCheckers(NodeKind.COMPONENT)) {
+            fragments.add(new ValidationFragment(ValidationFragment.Type.REFERENCES, null, openApi));
+        }
+        return fragments;
+    }
+
+    /**
+     * Checks that each open api path has an operation, so that validation can't fail after its results
+     * have already been partially written.
+     *
+     * @param openApi - open api model
+     */
+    public void checkPaths(OpenAPI openApi) {
+        if (openApi.getPaths() != null) {
+            openApi.getPaths().forEach(this::getPathOperation);
+        }
+    }
+
+    private void validate(ValidationFragment fragment, ValidationContext context, ValidationResultSink sink) {
+        switch (fragment.getType()) {
+            case INFO -> {
+                context.moveTo(null, null, null, null);
+                visit(NodeKind.INFO, fragment.getNode(), context, sink);
+            }
+            case PATH -> visitPath(fragment.getKey(), (PathItem) fragment.getNode(), context, sink);
+            case SCHEMA -> visitSchema(fragment.getKey(), (Schema) fragment.getNode(), context, sink);
+            case REFERENCES -> visitReferences((OpenAPI) fragment.getNode(), context, sink);
+            default -> throw new IllegalStateException(
+                    String.format("Unexpected validation fragment type [%s]", fragment.getType()));
+        }
+    }
+
+    private void visitPath(String path, PathItem pathItem, ValidationContext context, ValidationResultSink sink) {
+        var operation = getPathOperation(path, pathItem);
+        context.moveTo(path, null, null, null);
+        visit(NodeKind.OPERATION, operation, context, sink);
+        visitParameters(path, operation.getParameters(), context, sink);
+        visitRequestBody(path, operation, context, sink);
+        visitResponses(path, operation, context, sink);
+    }
+
+    private Operation getPathOperation(String path, PathItem pathItem) {
+        return getOperation(pathItem)
+                .orElseThrow(() -> new OperationNotSpecifiedException(
+                        String.format("Operation not specified for endpoint [%s]", path)))
+                .getOperation();
+    }
+
+    private void visitParameters(String path, List<Parameter> parameters, ValidationContext context,
+                                 ValidationResultSink sink) {
+        if (parameters == null) {
+            return;
+        }
+        for (var parameter : parameters) {
+            context.moveTo(path, null, parameter.getName(), null);
+            visit(NodeKind.PARAMETER, parameter, context, sink);
+            if (parameter.getSchema() != null) {
+                visit(NodeKind.PARAMETER_SCHEMA, parameter.getSchema(), context, sink);
+            }
+        }
+    }
+
+    private void visitRequestBody(String path, Operation operation, ValidationContext context,
+                                  ValidationResultSink sink) {
+        var requestBody = operation.getRequestBody();
+        if (requestBody == null || CollectionUtils.isEmpty(requestBody.getContent())) {
+            return;
+        }
+        MediaType mediaType = requestBody.getContent().values().iterator().next();
+        String schemaRef = mediaType.getSchema() != null ? mediaType.getSchema().getRef() : null;
+        context.moveTo(path, schemaRef, null, null);
+        visit(NodeKind.REQUEST_BODY, mediaType, context, sink);
+    }
+
+    private void visitResponses(String path, Operation operation, ValidationContext context,
+                                ValidationResultSink sink) {
+        if (operation.getResponses() == null) {
+            return;
+        }
+        for (Map.Entry<String, ApiResponse> responseEntry : operation.getResponses().entrySet()) {
+            if (!CollectionUtils.isEmpty(responseEntry.getValue().getContent())) {
+                context.moveTo(path, null, null, responseEntry.getKey());
+                visit(NodeKind.RESPONSE, responseEntry.getValue(), context, sink);
+            }
+        }
+    }
+
+    private void visitSchema(String ref, Schema schema, ValidationContext context, ValidationResultSink sink) {
+        context.moveTo(null, ref, null, null);
+        visit(NodeKind.SCHEMA, schema, context, sink);
+        if (!ruleCheckerRegistry.hasRuleCheckers(NodeKind.SCHEMA_PROPERTY)) {
+            return;
+        }
+        visitSchemaProperties(ref, schema.getProperties(), context, sink);
+        if (schema.getAllOf() != null) {
+            for (var parentSchema : schema.getAllOf()) {
+                visitSchemaProperties(ref, parentSchema.getProperties(), context, sink);
+            }
+        }
+    }
+
+    private void visitSchemaProperties(String ref, Map<String, Schema> properties, ValidationContext context,
+                                       ValidationResultSink sink) {
+        if (properties == null) {
+            return;
+        }
+        for (Map.Entry<String, Schema> propertyEntry : properties.entrySet()) {
+            context.moveTo(null, ref, propertyEntry.getKey(), null);
+            visit(NodeKind.SCHEMA_PROPERTY, propertyEntry.getValue(), context, sink);
+        }
+    }
+
+    private void visitReferences(OpenAPI openApi, ValidationContext context, ValidationResultSink sink) {
+        var refIndex = refIndexService.getRefIndex(openApi);
+        context.setRefIndex(refIndex);
+        for (var refUsage : refIndex.getRefUsages()) {
+            context.moveTo(refUsage.path(), RefIndex.getComponentName(refUsage.ref()), null, null);
+            visit(NodeKind.REFERENCE, refUsage.ref(), context, sink);
+        }
+        for (var componentRef : refIndex.getComponentRefs()) {
+            context.moveTo(null, RefIndex.getComponentName(componentRef), null, null);
+            visit(NodeKind.COMPONENT, componentRef, context, sink);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void visit(NodeKind nodeKind, T node, ValidationContext context, ValidationResultSink sink) {
+        if (!context.getBudget().visitNode()) {
+            return;
+        }
+        for (var ruleChecker : ruleCheckerRegistry.getRuleCheckers(nodeKind)) {
+            if (validationRuleService.isApplicable(ruleChecker.getRule(), context.getPath()) &&
+                    ((RuleChecker<T>) ruleChecker).isViolated(node, context)) {
+                sink.accept(ruleChecker.getRule(), context);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.openapi.converter.service.view;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Abstract template view over open api model. View values are read from open api model or computed on access
+ * and wrapped with template object wrapper, so view is rendered the same way as report model. Derived values,
+ * such as nested views and fields sequences, are memoized by view instance.
+ *
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor
+abstract class AbstractView implements TemplateHashModel {
+
+    protected final ViewContext context;
+
+    private Map<String, Object> derivedValues;
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        var value = getValue(key);
+        return value != null ? context.wrap(value) : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * Gets view value by key.
+     *
+     * @param key - view key (report model property name)
+     * @return view value or {@code null} if value is not specified
+     */
+    protected abstract Object getValue(String key);
+
+    /**
+     * Gets derived view value, computed on first access.
+     *
+     * @param key      - view key
+     * @param supplier - view value supplier
+     * @return view value or {@code null} if value is not specified
+     */
+    protected Object getDerivedValue(String key, Supplier<Object> supplier) {
+        if (derivedValues == null) {
+            derivedValues = new HashMap<>();
+        }
+        if (!derivedValues.containsKey(key)) {
+            derivedValues.put(key, supplier.get());
+        }
+        return derivedValues.get(key);
+    }
+}
@@ -0,0 +1,53 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.ApiResponse;
+import com.openapi.converter.model.report.ExampleReport;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Optional;
+
+/**
+ * Api response template view.
+ *
+ * @author Roman Batygin
+ */
+class ApiResponseView extends AbstractView {
+
+    private final String responseCode;
+    private final ApiResponse apiResponse;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context      - view context
+     * @param responseCode - response code
+     * @param apiResponse  - api response
+     */
+    ApiResponseView(ViewContext context, String responseCode, ApiResponse apiResponse) {
+        super(context);
+        this.responseCode = responseCode;
+        this.apiResponse = apiResponse;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        if ("responseCode".equals(key)) {
+            return responseCode;
+        } else if ("description".equals(key)) {
+            return apiResponse.getDescription();
+        } else if (CollectionUtils.isEmpty(apiResponse.getContent())) {
+            return null;
+        }
+        var mediaType = apiResponse.getContent().entrySet().iterator().next();
+        var schema = mediaType.getValue().getSchema();
+        return switch (key) {
+            case "contentType" -> mediaType.getKey();
+            case "schema" -> schema != null ?
+                    getDerivedValue(key, () -> new SchemaView(context, schema, false)) : null;
+            case "example" -> Optional.ofNullable(context.exampleReports.getExampleReport(mediaType.getValue()))
+                    .map(ExampleReport::getJson)
+                    .orElse(null);
+            default -> null;
+        };
+    }
+}
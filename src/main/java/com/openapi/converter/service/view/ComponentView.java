@@ -0,0 +1,38 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Schema;
+
+/**
+ * Component schema template view.
+ *
+ * @author Roman Batygin
+ */
+class ComponentView extends AbstractView {
+
+    private final String name;
+    private final Schema schema;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context - view context
+     * @param name    - component name
+     * @param schema  - component schema
+     */
+    ComponentView(ViewContext context, String name, Schema schema) {
+        super(context);
+        this.name = name;
+        this.schema = schema;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "name" -> name;
+            case "description" -> schema.getDescription();
+            case "fields" -> getDerivedValue(key, () -> context.sequence(context.schemaFields.getFields(schema),
+                    field -> new FieldView(context, field)));
+            default -> null;
+        };
+    }
+}
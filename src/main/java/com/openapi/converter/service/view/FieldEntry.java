@@ -0,0 +1,14 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Schema;
+
+/**
+ * Schema field entry.
+ *
+ * @param name     - field name
+ * @param required - is field required?
+ * @param schema   - field schema
+ * @author Roman Batygin
+ */
+record FieldEntry(String name, boolean required, Schema schema) {
+}
@@ -0,0 +1,34 @@
+package com.openapi.converter.service.view;
+
+/**
+ * Schema field template view.
+ *
+ * @author Roman Batygin
+ */
+class FieldView extends AbstractView {
+
+    private final FieldEntry field;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context - view context
+     * @param field   - schema field
+     */
+    FieldView(ViewContext context, FieldEntry field) {
+        super(context);
+        this.field = field;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "fieldName" -> field.name();
+            case "description" -> field.schema() != null ? field.schema().getDescription() : null;
+            case "required" -> field.required();
+            case "schema" -> field.schema() != null ?
+                    getDerivedValue(key, () -> new SchemaView(context, field.schema(), false)) : null;
+            default -> null;
+        };
+    }
+}
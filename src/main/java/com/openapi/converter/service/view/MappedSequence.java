@@ -0,0 +1,31 @@
+package com.openapi.converter.service.view;
+
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateSequenceModel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Template sequence, which maps list items to template models on access.
+ *
+ * @param <T> - item generic type
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor
+class MappedSequence<T> implements TemplateSequenceModel {
+
+    private final List<T> items;
+    private final Function<T, TemplateModel> mapper;
+
+    @Override
+    public TemplateModel get(int index) {
+        return index >= 0 && index < items.size() ? mapper.apply(items.get(index)) : null;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+}
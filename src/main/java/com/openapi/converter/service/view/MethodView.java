@@ -0,0 +1,71 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Operation;
+import com.openapi.converter.dto.openapi.OperationWrapper;
+import freemarker.template.TemplateModel;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Api method template view.
+ *
+ * @author Roman Batygin
+ */
+class MethodView extends AbstractView {
+
+    private final String endpoint;
+    private final OperationWrapper operationWrapper;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context          - view context
+     * @param endpoint         - endpoint path
+     * @param operationWrapper - endpoint operation
+     */
+    MethodView(ViewContext context, String endpoint, OperationWrapper operationWrapper) {
+        super(context);
+        this.endpoint = endpoint;
+        this.operationWrapper = operationWrapper;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        var operation = operationWrapper.getOperation();
+        return switch (key) {
+            case "requestType" -> operationWrapper.getRequestMethod().name();
+            case "endpoint" -> endpoint;
+            case "summary" -> operation.getSummary();
+            case "description" -> operation.getDescription();
+            case "requestBody" -> operation.getRequestBody() != null ?
+                    getDerivedValue(key, () -> new RequestBodyView(context, operation.getRequestBody())) : null;
+            case "requestParameters" -> operation.getParameters() != null ?
+                    getDerivedValue(key, () -> context.sequence(operation.getParameters(), parameter ->
+                            new RequestParameterView(context, parameter))) : null;
+            case "apiResponses" -> getDerivedValue(key, () -> getApiResponseViews(operation));
+            case "security" -> getDerivedValue(key, () -> getSecurityRequirementViews(operation));
+            default -> null;
+        };
+    }
+
+    private Object getApiResponseViews(Operation operation) {
+        if (CollectionUtils.isEmpty(operation.getResponses())) {
+            return Collections.emptyList();
+        }
+        return context.sequence(new ArrayList<>(operation.getResponses().entrySet()),
+                entry -> new ApiResponseView(context, entry.getKey(), entry.getValue()));
+    }
+
+    private List<TemplateModel> getSecurityRequirementViews(Operation operation) {
+        if (CollectionUtils.isEmpty(operation.getSecurity())) {
+            return Collections.emptyList();
+        }
+        List<TemplateModel> securityRequirementViews = new ArrayList<>();
+        operation.getSecurity().forEach(map -> map.forEach((name, scopes) ->
+                securityRequirementViews.add(new SecurityRequirementView(context, name, scopes))));
+        return securityRequirementViews;
+    }
+}
@@ -0,0 +1,43 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Oauth2Flow;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+
+/**
+ * Oauth2 flow template view.
+ *
+ * @author Roman Batygin
+ */
+class Oauth2FlowView extends AbstractView {
+
+    private final String grantType;
+    private final Oauth2Flow oauth2Flow;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context    - view context
+     * @param grantType  - grant type
+     * @param oauth2Flow - oauth2 flow
+     */
+    Oauth2FlowView(ViewContext context, String grantType, Oauth2Flow oauth2Flow) {
+        super(context);
+        this.grantType = grantType;
+        this.oauth2Flow = oauth2Flow;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "grantType" -> grantType;
+            case "authorizationUrl" -> oauth2Flow.getAuthorizationUrl();
+            case "tokenUrl" -> oauth2Flow.getTokenUrl();
+            case "refreshUrl" -> oauth2Flow.getRefreshUrl();
+            case "scopes" -> !CollectionUtils.isEmpty(oauth2Flow.getScopes()) ?
+                    new ArrayList<>(oauth2Flow.getScopes().keySet()) : null;
+            default -> null;
+        };
+    }
+}
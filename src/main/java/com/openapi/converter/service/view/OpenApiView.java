@@ -0,0 +1,85 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Components;
+import com.openapi.converter.dto.openapi.Contact;
+import com.openapi.converter.dto.openapi.Info;
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.dto.openapi.OperationWrapper;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Open api template view. Alternative to open api report model: view reads values straight from open api model
+ * and creates nested views on access, so open api model is not copied into report model before rendering.
+ * View keys are the same as report model properties, so report templates are rendered with the same output.
+ *
+ * @author Roman Batygin
+ */
+public class OpenApiView extends AbstractView {
+
+    private final OpenAPI openAPI;
+    private final List<Map.Entry<String, OperationWrapper>> operations;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context    - view context
+     * @param openAPI    - open api model
+     * @param operations - operations by endpoint paths in paths order
+     */
+    OpenApiView(ViewContext context, OpenAPI openAPI, List<Map.Entry<String, OperationWrapper>> operations) {
+        super(context);
+        this.openAPI = openAPI;
+        this.operations = operations;
+    }
+
+    /**
+     * Gets open api title.
+     *
+     * @return open api title
+     */
+    public String getTitle() {
+        return Optional.ofNullable(openAPI.getInfo()).map(Info::getTitle).orElse(null);
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        var contact = Optional.ofNullable(openAPI.getInfo()).map(Info::getContact);
+        return switch (key) {
+            case "title" -> getTitle();
+            case "description" -> Optional.ofNullable(openAPI.getInfo()).map(Info::getDescription).orElse(null);
+            case "author" -> contact.map(Contact::getName).orElse(null);
+            case "email" -> contact.map(Contact::getEmail).orElse(null);
+            case "methods" -> getDerivedValue(key, () -> context.sequence(operations,
+                    entry -> new MethodView(context, entry.getKey(), entry.getValue())));
+            case "components" -> getDerivedValue(key, this::getComponentViews);
+            case "securitySchemes" -> getDerivedValue(key, this::getSecuritySchemeViews);
+            default -> null;
+        };
+    }
+
+    private Object getComponentViews() {
+        var schemas = Optional.ofNullable(openAPI.getComponents()).map(Components::getSchemas).orElse(null);
+        if (CollectionUtils.isEmpty(schemas)) {
+            return Collections.emptyList();
+        }
+        return context.sequence(new ArrayList<>(schemas.entrySet()),
+                entry -> new ComponentView(context, entry.getKey(), entry.getValue()));
+    }
+
+    private Object getSecuritySchemeViews() {
+        var securitySchemes = Optional.ofNullable(openAPI.getComponents())
+                .map(Components::getSecuritySchemes)
+                .orElse(null);
+        if (securitySchemes == null) {
+            return Collections.emptyList();
+        }
+        return context.sequence(new ArrayList<>(securitySchemes.entrySet()),
+                entry -> new SecuritySchemeView(context, entry.getKey(), entry.getValue()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.dto.openapi.OperationWrapper;
+import com.openapi.converter.exception.OperationNotSpecifiedException;
+import com.openapi.converter.mapping.OpenApiMapper;
+import com.openapi.converter.service.example.ExampleReports;
+import com.openapi.converter.service.example.ExampleSerializer;
+import com.openapi.converter.service.field.SchemaFieldResolver;
+import com.openapi.converter.service.reference.RefIndexService;
+import freemarker.template.Configuration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.openapi.converter.util.Utils.getOperation;
+
+/**
+ * Open api template views factory.
+ *
+ * @author Roman Batygin
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenApiViewFactory {
+
+    private final Configuration configuration;
+    private final OpenApiMapper openApiMapper;
+    private final RefIndexService refIndexService;
+    private final ExampleSerializer exampleSerializer;
+
+    /**
+     * Creates open api template view. Endpoints operations are resolved when view is created, so missing
+     * operation is reported before rendering.
+     *
+     * @param openAPI - open api model
+     * @return open api view
+     */
+    public OpenApiView createOpenApiView(OpenAPI openAPI) {
+        List<Map.Entry<String, OperationWrapper>> operations = new ArrayList<>();
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().forEach((path, pathItem) -> {
+                var operationWrapper = getOperation(pathItem)
+                        .orElseThrow(() -> new OperationNotSpecifiedException(
+                                String.format("Operation not specified for endpoint [%s]", path)));
+                operations.add(Map.entry(path, operationWrapper));
+            });
+        }
+        var refIndex = refIndexService.getRefIndex(openAPI);
+        var context = new ViewContext(configuration.getObjectWrapper(), openApiMapper, refIndex,
+                new ExampleReports(refIndex, exampleSerializer, false),
+                new SchemaFieldResolver<>(refIndex, FieldEntry::new, FieldEntry::name, false));
+        log.info("Open api view has been created with [{}] methods", operations.size());
+        return new OpenApiView(context, openAPI, operations);
+    }
+}
@@ -0,0 +1,52 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.RequestBody;
+import com.openapi.converter.model.report.ExampleReport;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Optional;
+
+/**
+ * Request body template view.
+ *
+ * @author Roman Batygin
+ */
+class RequestBodyView extends AbstractView {
+
+    private final RequestBody requestBody;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context     - view context
+     * @param requestBody - request body
+     */
+    RequestBodyView(ViewContext context, RequestBody requestBody) {
+        super(context);
+        this.requestBody = requestBody;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        if ("required".equals(key)) {
+            return String.valueOf(Boolean.TRUE.equals(requestBody.getRequired()));
+        }
+        if (CollectionUtils.isEmpty(requestBody.getContent())) {
+            return null;
+        }
+        var mediaType = requestBody.getContent().entrySet().iterator().next();
+        var schema = mediaType.getValue().getSchema();
+        return switch (key) {
+            case "contentType" -> mediaType.getKey();
+            case "schema" -> schema != null ?
+                    getDerivedValue(key, () -> new SchemaView(context, schema, false)) : null;
+            case "example" -> Optional.ofNullable(context.exampleReports.getExampleReport(mediaType.getValue()))
+                    .map(ExampleReport::getJson)
+                    .orElse(null);
+            case "schemaProperties" -> schema != null ? getDerivedValue(key, () ->
+                    context.sequence(context.schemaFields.getFields(schema), field -> new FieldView(context, field)))
+                    : null;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Parameter;
+
+/**
+ * Request parameter template view.
+ *
+ * @author Roman Batygin
+ */
+class RequestParameterView extends AbstractView {
+
+    private final Parameter parameter;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context   - view context
+     * @param parameter - request parameter
+     */
+    RequestParameterView(ViewContext context, Parameter parameter) {
+        super(context);
+        this.parameter = parameter;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "name" -> parameter.getName();
+            case "description" -> parameter.getDescription();
+            case "required" -> Boolean.TRUE.equals(parameter.getRequired());
+            case "in" -> parameter.getIn();
+            case "example" -> parameter.getExample();
+            case "schema" -> parameter.getSchema() != null ?
+                    new SchemaView(context, parameter.getSchema(), true) : null;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Schema;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Schema template view. View of request parameter schema and array items schema is simple: it doesn't contain
+ * one of references and items, as well as corresponding report model.
+ *
+ * @author Roman Batygin
+ */
+class SchemaView extends AbstractView {
+
+    private final Schema schema;
+    private final boolean simple;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context - view context
+     * @param schema  - schema
+     * @param simple  - is simple schema view?
+     */
+    SchemaView(ViewContext context, Schema schema, boolean simple) {
+        super(context);
+        this.schema = schema;
+        this.simple = simple;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "description" -> schema.getDescription();
+            case "type" -> schema.getType();
+            case "format" -> schema.getFormat();
+            case "objectTypeRef" -> context.openApiMapper.mapRef(schema.getRef());
+            case "maximum" -> schema.getMaximum();
+            case "exclusiveMaximum" -> Boolean.TRUE.equals(schema.getExclusiveMaximum());
+            case "minimum" -> schema.getMinimum();
+            case "exclusiveMinimum" -> Boolean.TRUE.equals(schema.getExclusiveMinimum());
+            case "maxLength" -> schema.getMaxLength();
+            case "minLength" -> schema.getMinLength();
+            case "pattern" -> context.openApiMapper.mapPattern(schema.getPattern());
+            case "maxItems" -> schema.getMaxItems();
+            case "minItems" -> schema.getMinItems();
+            case "enumValues" -> schema.getEnums();
+            case "oneOfRefs" -> simple ? null : getDerivedValue(key, this::getOneOfRefs);
+            case "itemsReport" -> simple ? null : getDerivedValue(key, this::getItemsView);
+            default -> null;
+        };
+    }
+
+    private List<String> getOneOfRefs() {
+        if (CollectionUtils.isEmpty(schema.getOneOf())) {
+            return Collections.emptyList();
+        }
+        List<String> oneOfRefs = new ArrayList<>(schema.getOneOf().size());
+        schema.getOneOf().forEach(oneOfSchema ->
+                oneOfRefs.add(oneOfSchema != null ? context.openApiMapper.mapRef(oneOfSchema.getRef()) : null));
+        return oneOfRefs;
+    }
+
+    private Object getItemsView() {
+        List<Schema> itemsSchemas = new ArrayList<>();
+        Schema items = schema.getItems();
+        while (items != null) {
+            itemsSchemas.add(items);
+            items = items.getItems();
+        }
+        return context.sequence(itemsSchemas, itemsSchema -> new SchemaView(context, itemsSchema, true));
+    }
+}
@@ -0,0 +1,36 @@
+package com.openapi.converter.service.view;
+
+import java.util.List;
+
+/**
+ * Operation security requirement template view.
+ *
+ * @author Roman Batygin
+ */
+class SecurityRequirementView extends AbstractView {
+
+    private final String name;
+    private final List<String> scopes;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context - view context
+     * @param name    - security scheme name
+     * @param scopes  - required scopes
+     */
+    SecurityRequirementView(ViewContext context, String name, List<String> scopes) {
+        super(context);
+        this.name = name;
+        this.scopes = scopes;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "name" -> name;
+            case "scopes" -> scopes;
+            default -> null;
+        };
+    }
+}
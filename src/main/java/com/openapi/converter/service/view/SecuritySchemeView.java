@@ -0,0 +1,70 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.dto.openapi.Oauth2Flow;
+import com.openapi.converter.dto.openapi.SecurityScheme;
+import freemarker.template.TemplateModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Security scheme template view.
+ *
+ * @author Roman Batygin
+ */
+class SecuritySchemeView extends AbstractView {
+
+    private static final String PASSWORD_GRANT = "password";
+    private static final String IMPLICIT_GRANT = "implicit";
+    private static final String AUTHORIZATION_CODE_GRANT = "authorization_code";
+    private static final String CLIENT_CREDENTIALS_GRANT = "client_credentials";
+
+    private final String name;
+    private final SecurityScheme securityScheme;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param context        - view context
+     * @param name           - security scheme name
+     * @param securityScheme - security scheme
+     */
+    SecuritySchemeView(ViewContext context, String name, SecurityScheme securityScheme) {
+        super(context);
+        this.name = name;
+        this.securityScheme = securityScheme;
+    }
+
+    @Override
+    protected Object getValue(String key) {
+        return switch (key) {
+            case "type" -> securityScheme.getType();
+            case "description" -> securityScheme.getDescription();
+            case "name" -> name;
+            case "ref" -> securityScheme.getRef();
+            case "in" -> securityScheme.getIn();
+            case "scheme" -> securityScheme.getScheme();
+            case "bearerFormat" -> securityScheme.getBearerFormat();
+            case "oauth2Flows" -> getOauth2FlowViews();
+            default -> null;
+        };
+    }
+
+    private List<TemplateModel> getOauth2FlowViews() {
+        List<TemplateModel> oauth2FlowViews = new ArrayList<>();
+        var flows = securityScheme.getFlows();
+        if (flows != null) {
+            addOauth2FlowView(oauth2FlowViews, PASSWORD_GRANT, flows.getPassword());
+            addOauth2FlowView(oauth2FlowViews, IMPLICIT_GRANT, flows.getImplicit());
+            addOauth2FlowView(oauth2FlowViews, AUTHORIZATION_CODE_GRANT, flows.getAuthorizationCode());
+            addOauth2FlowView(oauth2FlowViews, CLIENT_CREDENTIALS_GRANT, flows.getClientCredentials());
+        }
+        return oauth2FlowViews;
+    }
+
+    private void addOauth2FlowView(List<TemplateModel> oauth2FlowViews, String grantType, Oauth2Flow oauth2Flow) {
+        if (oauth2Flow != null) {
+            oauth2FlowViews.add(new Oauth2FlowView(context, grantType, oauth2Flow));
+        }
+    }
+}
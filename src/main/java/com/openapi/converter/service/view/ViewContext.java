@@ -0,0 +1,52 @@
+package com.openapi.converter.service.view;
+
+import com.openapi.converter.mapping.OpenApiMapper;
+import com.openapi.converter.service.example.ExampleReports;
+import com.openapi.converter.service.field.SchemaFieldResolver;
+import com.openapi.converter.service.reference.RefIndex;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateSequenceModel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * View context of single open api report rendering.
+ *
+ * @author Roman Batygin
+ */
+@RequiredArgsConstructor
+class ViewContext {
+
+    final ObjectWrapper objectWrapper;
+    final OpenApiMapper openApiMapper;
+    final RefIndex refIndex;
+    final ExampleReports exampleReports;
+    final SchemaFieldResolver<FieldEntry> schemaFields;
+
+    /**
+     * Wraps value with template object wrapper.
+     *
+     * @param value - value
+     * @return template model
+     * @throws TemplateModelException in case of wrapping error
+     */
+    TemplateModel wrap(Object value) throws TemplateModelException {
+        return objectWrapper.wrap(value);
+    }
+
+    /**
+     * Creates template sequence, which maps items to template models on access.
+     *
+     * @param items  - items
+     * @param mapper - item mapper
+     * @param <T>    - item generic type
+     * @return template sequence
+     */
+    <T> TemplateSequenceModel sequence(List<T> items, Function<T, TemplateModel> mapper) {
+        return new MappedSequence<>(items, mapper);
+    }
+}
@@ -6,9 +6,8 @@ import com.openapi.converter.dto.openapi.Operation;
 import com.openapi.converter.dto.openapi.OperationWrapper;
 import com.openapi.converter.dto.openapi.PathItem;
 import com.openapi.converter.dto.openapi.Schema;
-import com.openapi.converter.model.validation.Severity;
-import com.openapi.converter.model.validation.ValidationResult;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.CollectionUtils;
@@ -29,6 +28,13 @@ public class Utils {
     private static final String STRING_TYPE = "string";
     private static final String ARRAY_TYPE = "array";
     private static final String BINARY_FORMAT = "binary";
+    private static final String GZIP_EXTENSION = "gz";
+
+    /**
+     * Approx. ratio of parsed and canonicalized open api model retained size to raw docs size
+     * (measured from 2 to 4 for json docs from several kilobytes to several megabytes)
+     */
+    private static final long OPEN_API_MODEL_SIZE_FACTOR = 4L;
 
     private static final List<String> NUMBER_TYPES = List.of("integer", "number");
 
@@ -119,19 +125,6 @@ public class Utils {
         return Optional.ofNullable(operationWrapper);
     }
 
-    /**
-     * Gets validation errors count with specified severity level.
-     *
-     * @param validationResults - validation results
-     * @param severity          - severity level
-     * @return validation errors count
-     */
-    public static long countBySeverity(List<ValidationResult> validationResults, Severity severity) {
-        return validationResults.stream()
-                .filter(validationResult -> severity.equals(validationResult.getSeverity()))
-                .count();
-    }
-
     private static OperationWrapper getOperationOrNull(PathItem pathItem,
                                                        Function<PathItem, Operation> operationFunction,
                                                        RequestMethod requestMethod) {
@@ -143,4 +136,26 @@ public class Utils {
                         .build()
                 ).orElse(null);
     }
+
+    /**
+     * Gets open api file base name without extensions, including gzip extension.
+     *
+     * @param fileName - open api file name
+     * @return file base name
+     */
+    public static String getOpenApiFileBaseName(String fileName) {
+        String name = GZIP_EXTENSION.equals(FilenameUtils.getExtension(fileName)) ?
+                FilenameUtils.removeExtension(fileName) : fileName;
+        return FilenameUtils.getBaseName(name);
+    }
+
+    /**
+     * Estimates retained heap size of parsed open api model.
+     *
+     * @param docsSize - raw open api docs size in bytes
+     * @return approx. open api model size in bytes
+     */
+    public static long estimateOpenApiModelSize(long docsSize) {
+        return docsSize * OPEN_API_MODEL_SIZE_FACTOR;
+    }
 }
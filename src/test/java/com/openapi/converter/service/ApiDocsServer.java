@@ -0,0 +1,91 @@
+package com.openapi.converter.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local http server serving open api docs for tests. Open api docs are served for any path ending with
+ * api docs path, except paths starting with failed path prefix, which are answered with internal server error.
+ * Each request is delayed, so concurrent requests overlap, and max. number of concurrent requests is tracked.
+ *
+ * @author Roman Batygin
+ */
+class ApiDocsServer implements AutoCloseable {
+
+    static final String FAILED_PATH_PREFIX = "/failed";
+
+    private static final long RESPONSE_DELAY_MILLIS = 50L;
+
+    private final byte[] apiDocs;
+    private final HttpServer httpServer;
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    /**
+     * Max. number of concurrent requests
+     */
+    @Getter
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    /**
+     * Creates and starts server on loopback address and random port.
+     *
+     * @param apiDocs - open api docs json
+     * @throws IOException in case of I/O error
+     */
+    ApiDocsServer(byte[] apiDocs) throws IOException {
+        this.apiDocs = apiDocs;
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/", this::handle);
+        httpServer.setExecutor(executorService);
+        httpServer.start();
+    }
+
+    /**
+     * Gets service base url.
+     *
+     * @param path - service path
+     * @return service base url
+     */
+    String getUrl(String path) {
+        return String.format("http://%s:%d%s", httpServer.getAddress().getHostString(),
+                httpServer.getAddress().getPort(), path);
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+        try {
+            TimeUnit.MILLISECONDS.sleep(RESPONSE_DELAY_MILLIS);
+            if (exchange.getRequestURI().getPath().startsWith(FAILED_PATH_PREFIX)) {
+                exchange.sendResponseHeaders(HttpStatus.INTERNAL_SERVER_ERROR.value(), -1L);
+            } else {
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(HttpStatus.OK.value(), apiDocs.length);
+                exchange.getResponseBody().write(apiDocs);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
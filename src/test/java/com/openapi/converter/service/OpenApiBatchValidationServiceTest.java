@@ -0,0 +1,68 @@
+package com.openapi.converter.service;
+
+import com.openapi.converter.dto.OpenApiReportRequestDto;
+import com.openapi.converter.model.validation.BatchValidationResult;
+import lombok.Cleanup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for open api batch validation.
+ *
+ * @author Roman Batygin
+ */
+@SpringBootTest
+class OpenApiBatchValidationServiceTest {
+
+    private static final String FIRST_NAME = "first";
+    private static final String FAILED_NAME = "failed";
+    private static final String UNREACHABLE_NAME = "unreachable";
+    private static final String SECOND_NAME = "second";
+    private static final String UNREACHABLE_URL = "http://127.0.0.1:1";
+
+    @Value("classpath:api-docs/api-docs-for-validation.json")
+    private Resource resource;
+
+    @Inject
+    private OpenApiBatchValidationService openApiBatchValidationService;
+
+    @Test
+    void testValidateResourcesWithFailedResources() throws IOException {
+        @Cleanup var inputStream = resource.getInputStream();
+        @Cleanup var apiDocsServer = new ApiDocsServer(inputStream.readAllBytes());
+        var openApiResources = List.of(createResource(FIRST_NAME, apiDocsServer.getUrl("/first")),
+                createResource(FAILED_NAME, apiDocsServer.getUrl(ApiDocsServer.FAILED_PATH_PREFIX)),
+                createResource(UNREACHABLE_NAME, UNREACHABLE_URL),
+                createResource(SECOND_NAME, apiDocsServer.getUrl("/second")));
+        var batchValidationResults = openApiBatchValidationService.validateResources(openApiResources);
+        assertThat(batchValidationResults)
+                .extracting(BatchValidationResult::getName)
+                .containsExactly(FIRST_NAME, FAILED_NAME, UNREACHABLE_NAME, SECOND_NAME);
+        var firstResult = batchValidationResults.get(0);
+        var secondResult = batchValidationResults.get(3);
+        assertThat(firstResult.getErrorMessage()).isNull();
+        assertThat(firstResult.getValidationResults()).isNotNull();
+        assertThat(firstResult.getValidationResults().isEmpty()).isFalse();
+        assertThat(secondResult.getErrorMessage()).isNull();
+        assertThat(secondResult.getValidationResults()).isEqualTo(firstResult.getValidationResults());
+        for (var failedResult : batchValidationResults.subList(1, 3)) {
+            assertThat(failedResult.getValidationResults()).isNull();
+            assertThat(failedResult.getErrorMessage()).isNotBlank();
+        }
+    }
+
+    private OpenApiReportRequestDto createResource(String reportFileName, String url) {
+        var openApiReportRequestDto = new OpenApiReportRequestDto();
+        openApiReportRequestDto.setUrl(url);
+        openApiReportRequestDto.setReportFileName(reportFileName);
+        return openApiReportRequestDto;
+    }
+}
@@ -1,21 +1,42 @@
 package com.openapi.converter.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.config.OpenApiConverterConfiguration;
+import com.openapi.converter.dto.openapi.Components;
 import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.mapping.OpenApiMapper;
+import com.openapi.converter.report.AsciiDocReportWriter;
+import com.openapi.converter.service.example.ExampleSerializer;
+import com.openapi.converter.service.reference.RefIndexService;
 import lombok.Cleanup;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.output.BrokenWriter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
 
 import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for open api conversion.
@@ -27,25 +48,185 @@ class OpenApiConverterTest {
 
     private static final String TARGET_FILE_FORMAT = "%s/target/%s";
     private static final String ADOC_FORMAT = "%s.adoc";
+    private static final String CHANGED_DESCRIPTION = "Changed description";
+    private static final String OPEN_API_FILE_PARAMETER = "openApiJson";
+    private static final String BROKEN_PIPE_MESSAGE = "Broken pipe";
 
     @Value("classpath*:api-docs/**/*.json")
     private Resource[] resources;
 
     @Inject
     private ObjectMapper openApiObjectMapper;
-    @Inject
+    @SpyBean
     private OpenApiReportProcessor openApiReportProcessor;
+    @Inject
+    private OpenApiUploadCache openApiUploadCache;
+    @Inject
+    private OpenApiCanonicalizer openApiCanonicalizer;
+    @Inject
+    private AppProperties appProperties;
+    @Inject
+    private OpenApiReportService openApiReportService;
+    @Inject
+    private OpenApiMapper openApiMapper;
+    @Inject
+    private ExampleSerializer exampleSerializer;
+    @Inject
+    private RefIndexService refIndexService;
+    @Inject
+    private ForkJoinPool reportForkJoinPool;
 
     @Test
     void testApiDocConversion() throws IOException {
         for (Resource resource : resources) {
             @Cleanup var inputStream = resource.getInputStream();
             var openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
-            String reportString = openApiReportProcessor.processAsciiDocReport(openApi);
+            String reportString = writeAsciiDocReport(openApi);
             assertThat(reportString).isNotNull();
             String targetFileName = String.format(ADOC_FORMAT, FilenameUtils.getBaseName(resource.getFilename()));
             String targetFilePath = String.format(TARGET_FILE_FORMAT, System.getProperty("user.dir"), targetFileName);
             FileUtils.write(new File(targetFilePath), reportString, StandardCharsets.UTF_8);
         }
     }
+
+    @Test
+    void testApiDocConversionWithOpenApiView() throws IOException {
+        for (Resource resource : resources) {
+            @Cleanup var inputStream = resource.getInputStream();
+            var openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+            String reportString = writeAsciiDocReport(openApi);
+            appProperties.getReport().setOpenApiViewEnabled(true);
+            try {
+                assertThat(writeAsciiDocReport(openApi)).isEqualTo(reportString);
+            } finally {
+                appProperties.getReport().setOpenApiViewEnabled(false);
+            }
+        }
+    }
+
+    @Test
+    void testApiDocConversionWithWriterError() throws IOException {
+        var asciiDocReportWriter = openApiReportProcessor.prepareAsciiDocReport(readOpenApi(resources[0]));
+        var writerError = new IOException(BROKEN_PIPE_MESSAGE);
+        //Writer I/O errors, such as client disconnect, must not be reported as template errors
+        assertThatThrownBy(() -> asciiDocReportWriter.write(new BrokenWriter(writerError))).isSameAs(writerError);
+    }
+
+    @Test
+    void testUploadedApiDocConversion() throws IOException {
+        var uploadCacheProperties = appProperties.getUploadCache();
+        var maxReportSize = uploadCacheProperties.getMaxReportSize();
+        for (Resource resource : resources) {
+            String reportString = writeAsciiDocReport(readOpenApi(resource));
+            @Cleanup var inputStream = resource.getInputStream();
+            var multipartFile = new MockMultipartFile(OPEN_API_FILE_PARAMETER, resource.getFilename(),
+                    MediaType.APPLICATION_JSON_VALUE, inputStream);
+            clearInvocations(openApiReportProcessor);
+            try {
+                //Report exceeding max. cached report size is rendered on each upload
+                uploadCacheProperties.setMaxReportSize(DataSize.ofBytes(1L));
+                assertThat(writeAsciiDocReport(openApiUploadCache.getAsciiDocReport(multipartFile)))
+                        .isEqualTo(reportString);
+                assertThat(writeAsciiDocReport(openApiUploadCache.getAsciiDocReport(multipartFile)))
+                        .isEqualTo(reportString);
+                verify(openApiReportProcessor, times(2)).prepareAsciiDocReport(any(OpenAPI.class));
+                //Report is cached while written to target writer and then used for next uploads
+                uploadCacheProperties.setMaxReportSize(maxReportSize);
+                assertThat(writeAsciiDocReport(openApiUploadCache.getAsciiDocReport(multipartFile)))
+                        .isEqualTo(reportString);
+                assertThat(writeAsciiDocReport(openApiUploadCache.getAsciiDocReport(multipartFile)))
+                        .isEqualTo(reportString);
+                verify(openApiReportProcessor, times(3)).prepareAsciiDocReport(any(OpenAPI.class));
+            } finally {
+                uploadCacheProperties.setMaxReportSize(maxReportSize);
+            }
+        }
+    }
+
+    @Test
+    void testParallelApiDocConversion() throws IOException {
+        var reportProperties = appProperties.getReport();
+        boolean parallelEnabled = reportProperties.isParallelEnabled();
+        int parallelThreshold = reportProperties.getParallelThreshold();
+        for (Resource resource : resources) {
+            var openApi = readOpenApi(resource);
+            try {
+                reportProperties.setParallelEnabled(false);
+                String sequentialReportString = writeAsciiDocReport(openApi);
+                reportProperties.setParallelEnabled(true);
+                reportProperties.setParallelThreshold(1);
+                assertThat(writeAsciiDocReport(openApi)).isEqualTo(sequentialReportString);
+            } finally {
+                reportProperties.setParallelEnabled(parallelEnabled);
+                reportProperties.setParallelThreshold(parallelThreshold);
+            }
+        }
+    }
+
+    @Test
+    void testApiDocConversionWithSchemaReportCache() throws IOException {
+        var cacheAppProperties = new AppProperties();
+        cacheAppProperties.getReport().setSchemaReportCacheEnabled(true);
+        var cachedOpenApiReportService = new OpenApiReportService(openApiMapper, exampleSerializer,
+                refIndexService, cacheAppProperties, reportForkJoinPool);
+        for (Resource resource : resources) {
+            var openApi = readOpenApi(resource);
+            var openApiReport = openApiReportService.buildReport(openApi);
+            assertThat(cachedOpenApiReportService.buildReport(openApi)).isEqualTo(openApiReport);
+            //Cached schema reports must not be affected by changes of previously reported schemas
+            Optional.ofNullable(openApi.getComponents())
+                    .map(Components::getSchemas)
+                    .ifPresent(schemas -> schemas.values().stream()
+                            .filter(schema -> !CollectionUtils.isEmpty(schema.getProperties()))
+                            .flatMap(schema -> schema.getProperties().values().stream())
+                            .forEach(schema -> schema.setDescription(CHANGED_DESCRIPTION)));
+            var changedOpenApiReport = openApiReportService.buildReport(openApi);
+            assertThat(cachedOpenApiReportService.buildReport(openApi)).isEqualTo(changedOpenApiReport);
+            assertThat(cachedOpenApiReportService.buildReport(readOpenApi(resource))).isEqualTo(openApiReport);
+        }
+    }
+
+    @Test
+    void testFastParseApiDocDeserialization() throws IOException {
+        var appProperties = new AppProperties();
+        appProperties.getOpenApiReader().setFastParseEnabled(true);
+        var fastParseObjectMapper = new OpenApiConverterConfiguration().openApiObjectMapper(appProperties);
+        for (Resource resource : resources) {
+            @Cleanup var inputStream = resource.getInputStream();
+            @Cleanup var fastParseInputStream = resource.getInputStream();
+            var openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+            var fastParseOpenApi = fastParseObjectMapper.readValue(fastParseInputStream, OpenAPI.class);
+            assertThat(fastParseOpenApi).isEqualTo(openApi);
+        }
+    }
+
+    @Test
+    void testApiDocCanonicalization() throws IOException {
+        for (Resource resource : resources) {
+            @Cleanup var inputStream = resource.getInputStream();
+            @Cleanup var canonicalizedInputStream = resource.getInputStream();
+            var openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+            var canonicalizedOpenApi =
+                    openApiCanonicalizer.canonicalize(openApiObjectMapper.readValue(canonicalizedInputStream,
+                            OpenAPI.class));
+            assertThat(canonicalizedOpenApi).isEqualTo(openApi);
+            assertThat(writeAsciiDocReport(canonicalizedOpenApi))
+                    .isEqualTo(writeAsciiDocReport(openApi));
+        }
+    }
+
+    private String writeAsciiDocReport(OpenAPI openApi) throws IOException {
+        return writeAsciiDocReport(openApiReportProcessor.prepareAsciiDocReport(openApi));
+    }
+
+    private String writeAsciiDocReport(AsciiDocReportWriter asciiDocReportWriter) throws IOException {
+        var writer = new StringWriter();
+        asciiDocReportWriter.write(writer);
+        return writer.toString();
+    }
+
+    private OpenAPI readOpenApi(Resource resource) throws IOException {
+        @Cleanup var inputStream = resource.getInputStream();
+        return openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+    }
 }
@@ -0,0 +1,69 @@
+package com.openapi.converter.service;
+
+import com.openapi.converter.config.AppProperties;
+import com.openapi.converter.dto.OpenApiReportRequestDto;
+import com.openapi.converter.exception.ExternalIntegrationErrorException;
+import lombok.Cleanup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Unit tests for reading open api docs from external resources.
+ *
+ * @author Roman Batygin
+ */
+@SpringBootTest
+class OpenApiReaderTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30L);
+
+    @Value("classpath:api-docs/eca-mail-api-docs.json")
+    private Resource resource;
+
+    @Inject
+    private OpenApiReader openApiReader;
+    @Inject
+    private AppProperties appProperties;
+
+    @Test
+    void testReadOpenApisWithFailedResource() throws IOException {
+        var openApiReaderProperties = appProperties.getOpenApiReader();
+        int maxConcurrencyPerHost = openApiReaderProperties.getMaxConcurrencyPerHost();
+        @Cleanup var inputStream = resource.getInputStream();
+        @Cleanup var apiDocsServer = new ApiDocsServer(inputStream.readAllBytes());
+        try {
+            openApiReaderProperties.setMaxConcurrencyPerHost(1);
+            var failedResources = List.of(createResource(apiDocsServer.getUrl("/first")),
+                    createResource(apiDocsServer.getUrl(ApiDocsServer.FAILED_PATH_PREFIX)),
+                    createResource(apiDocsServer.getUrl("/second")), createResource(apiDocsServer.getUrl("/third")));
+            assertThatThrownBy(() -> openApiReader.readOpenApis(failedResources))
+                    .isInstanceOf(ExternalIntegrationErrorException.class);
+            //Fetches cancelled after failure must not keep host permits
+            var resources = List.of(createResource(apiDocsServer.getUrl("/fourth")),
+                    createResource(apiDocsServer.getUrl("/fifth")));
+            var openApis = assertTimeoutPreemptively(READ_TIMEOUT, () -> openApiReader.readOpenApis(resources));
+            assertThat(openApis).hasSize(resources.size()).doesNotContainNull();
+            assertThat(apiDocsServer.getMaxActiveRequests()).hasValue(1);
+        } finally {
+            openApiReaderProperties.setMaxConcurrencyPerHost(maxConcurrencyPerHost);
+        }
+    }
+
+    private OpenApiReportRequestDto createResource(String url) {
+        var openApiReportRequestDto = new OpenApiReportRequestDto();
+        openApiReportRequestDto.setUrl(url);
+        openApiReportRequestDto.setReportFileName(url);
+        return openApiReportRequestDto;
+    }
+}
@@ -4,6 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openapi.converter.config.AppProperties;
 import com.openapi.converter.config.OpenApiConverterConfiguration;
 import com.openapi.converter.dto.openapi.OpenAPI;
+import com.openapi.converter.model.validation.Rule;
+import com.openapi.converter.model.validation.ValidationBudgetLimit;
+import com.openapi.converter.report.OpenApiValidationResultsCsvReportGenerator;
+import com.openapi.converter.report.OpenApiValidationResultsCsvStreamingReportGenerator;
+import com.openapi.converter.service.reference.RefIndexService;
+import com.openapi.converter.service.validation.RuleCheckerRegistry;
+import com.openapi.converter.service.validation.ValidationFragmentCache;
+import com.openapi.converter.service.validation.ValidationMetrics;
+import com.openapi.converter.service.validation.ValidationRuleEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.Cleanup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +24,21 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.io.Resource;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.unit.DataSize;
 
 import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,30 +51,178 @@ import static org.assertj.core.api.Assertions.assertThat;
 @EnableConfigurationProperties
 @TestPropertySource("classpath:application.properties")
 @Import({OpenApiValidationService.class, OpenApiConverterConfiguration.class, ValidationResultHelper.class,
-        ValidationRuleService.class})
+        ValidationRuleService.class, ValidationRuleEngine.class, RuleCheckerRegistry.class,
+        ValidationFragmentCache.class, ValidationMetrics.class, SimpleMeterRegistry.class, RefIndexService.class,
+        OpenApiValidationResultsCsvReportGenerator.class, OpenApiValidationResultsCsvStreamingReportGenerator.class})
 class OpenApiValidationServiceTest {
 
     private static final int EXPECTED_ERRORS_SIZE = 59;
+    private static final Set<Rule> REFERENCE_RULES =
+            EnumSet.of(Rule.UNRESOLVED_REFERENCE, Rule.CIRCULAR_ALL_OF_SCHEMA, Rule.UNREACHABLE_COMPONENT);
 
     @Value("classpath:api-docs/api-docs-for-validation.json")
     private Resource resource;
+    @Value("classpath:broken-api-docs/api-docs-for-references.json")
+    private Resource referencesResource;
 
+    @Inject
+    private AppProperties appProperties;
     @Inject
     private ObjectMapper openApiObjectMapper;
     @Inject
     private OpenApiValidationService openApiValidationService;
+    @Inject
+    private RefIndexService refIndexService;
+    @Inject
+    private OpenApiValidationResultsCsvReportGenerator openApiValidationResultsCsvReportGenerator;
+    @Inject
+    private OpenApiValidationResultsCsvStreamingReportGenerator openApiValidationResultsCsvStreamingReportGenerator;
 
     private OpenAPI openApi;
 
     @BeforeEach
     void init() throws IOException {
-        @Cleanup var inputStream = resource.getInputStream();
-        openApi = openApiObjectMapper.readValue(inputStream, OpenAPI.class);
+        openApi = readOpenApi(resource);
     }
 
     @Test
     void testValidateOpenApi() {
         var validationResults = openApiValidationService.validate(openApi);
-        assertThat(validationResults).hasSize(EXPECTED_ERRORS_SIZE);
+        assertThat(validationResults.size()).isEqualTo(EXPECTED_ERRORS_SIZE);
+        assertThat(validationResults.isComplete()).isTrue();
+    }
+
+    @Test
+    void testValidationResultsSortedBySeverity() {
+        var validationResults = openApiValidationService.validate(openApi);
+        for (int i = 1; i < validationResults.size(); i++) {
+            assertThat(validationResults.getSeverity(i)).isGreaterThanOrEqualTo(validationResults.getSeverity(i - 1));
+        }
+    }
+
+    @Test
+    void testParallelValidateOpenApi() {
+        var validationProperties = appProperties.getValidation();
+        int parallelThreshold = validationProperties.getParallelThreshold();
+        try {
+            validationProperties.setParallelEnabled(false);
+            var sequentialValidationResults = openApiValidationService.validate(openApi);
+            validationProperties.setParallelEnabled(true);
+            validationProperties.setParallelThreshold(1);
+            var parallelValidationResults = openApiValidationService.validate(openApi);
+            assertThat(parallelValidationResults).isEqualTo(sequentialValidationResults);
+        } finally {
+            validationProperties.setParallelEnabled(true);
+            validationProperties.setParallelThreshold(parallelThreshold);
+        }
+    }
+
+    @Test
+    void testIncrementalValidateOpenApi() throws IOException {
+        var changedOpenApi = readOpenApi(resource);
+        changedOpenApi.getComponents().getSchemas().values().iterator().next().setDescription(null);
+        var validationProperties = appProperties.getValidation();
+        try {
+            validationProperties.setIncrementalEnabled(false);
+            var fullValidationResults = openApiValidationService.validate(changedOpenApi);
+            validationProperties.setIncrementalEnabled(true);
+            openApiValidationService.validate(openApi);
+            var incrementalValidationResults = openApiValidationService.validate(changedOpenApi);
+            assertThat(incrementalValidationResults).isEqualTo(fullValidationResults);
+        } finally {
+            validationProperties.setIncrementalEnabled(false);
+        }
+    }
+
+    @Test
+    void testValidateOpenApiWithExceededBudget() {
+        var validationProperties = appProperties.getValidation();
+        long maxResults = validationProperties.getMaxResults();
+        long maxVisitedNodes = validationProperties.getMaxVisitedNodes();
+        try {
+            validationProperties.setMaxResults(EXPECTED_ERRORS_SIZE - 1);
+            var validationResults = openApiValidationService.validate(openApi);
+            assertThat(validationResults.size()).isEqualTo(EXPECTED_ERRORS_SIZE - 1);
+            assertThat(validationResults.getExceededBudgetLimit()).isEqualTo(ValidationBudgetLimit.MAX_RESULTS);
+            validationProperties.setMaxResults(maxResults);
+            validationProperties.setMaxVisitedNodes(1L);
+            validationResults = openApiValidationService.validate(openApi);
+            assertThat(validationResults.size()).isLessThan(EXPECTED_ERRORS_SIZE);
+            assertThat(validationResults.getExceededBudgetLimit())
+                    .isEqualTo(ValidationBudgetLimit.MAX_VISITED_NODES);
+        } finally {
+            validationProperties.setMaxResults(maxResults);
+            validationProperties.setMaxVisitedNodes(maxVisitedNodes);
+        }
+    }
+
+    @Test
+    void testStreamingValidationResultsReport() throws IOException {
+        var validationProperties = appProperties.getValidation();
+        var streamingBucketMemoryLimit = validationProperties.getStreamingBucketMemoryLimit();
+        try {
+            var reportOutputStream = new ByteArrayOutputStream();
+            openApiValidationResultsCsvReportGenerator.generateReport(openApiValidationService.validate(openApi),
+                    reportOutputStream);
+            var expectedReportEntries = readZipEntries(reportOutputStream.toByteArray());
+            assertThat(expectedReportEntries).hasSize(2);
+            var streamingReportOutputStream = new ByteArrayOutputStream();
+            openApiValidationResultsCsvStreamingReportGenerator.generateReport(openApi, streamingReportOutputStream);
+            assertThat(readZipEntries(streamingReportOutputStream.toByteArray())).isEqualTo(expectedReportEntries);
+            //Spills severity buckets to disk after each record
+            validationProperties.setStreamingBucketMemoryLimit(DataSize.ofBytes(1L));
+            streamingReportOutputStream.reset();
+            openApiValidationResultsCsvStreamingReportGenerator.generateReport(openApi, streamingReportOutputStream);
+            assertThat(readZipEntries(streamingReportOutputStream.toByteArray())).isEqualTo(expectedReportEntries);
+        } finally {
+            validationProperties.setStreamingBucketMemoryLimit(streamingBucketMemoryLimit);
+        }
+    }
+
+    @Test
+    void testReferencesIndex() throws IOException {
+        var refIndex = refIndexService.getRefIndex(readOpenApi(referencesResource));
+        assertThat(refIndex.isResolvable("#/components/schemas/Pet")).isTrue();
+        assertThat(refIndex.isResolvable("#/components/parameters/Missing")).isFalse();
+        assertThat(refIndex.isReachable("#/components/schemas/Pet")).isTrue();
+        assertThat(refIndex.isReachable("#/components/schemas/Cat")).isTrue();
+        assertThat(refIndex.isReachable("#/components/schemas/Dog")).isTrue();
+        assertThat(refIndex.isReachable("#/components/schemas/Orphan")).isFalse();
+        assertThat(refIndex.isCircularAllOf("#/components/schemas/Cat")).isTrue();
+        assertThat(refIndex.isCircularAllOf("#/components/schemas/Dog")).isTrue();
+        assertThat(refIndex.isCircularAllOf("#/components/schemas/Pet")).isFalse();
+    }
+
+    @Test
+    void testValidateReferences() throws IOException {
+        var validationResults = openApiValidationService.validate(readOpenApi(referencesResource));
+        List<String> referenceResults = new ArrayList<>();
+        for (int i = 0; i < validationResults.size(); i++) {
+            if (REFERENCE_RULES.contains(validationResults.getRule(i))) {
+                referenceResults.add(String.format("%s %s %s", validationResults.getRule(i),
+                        validationResults.getPath(i), validationResults.getSchemaRef(i)));
+            }
+        }
+        assertThat(referenceResults).containsExactlyInAnyOrder(
+                "UNRESOLVED_REFERENCE /pets Missing",
+                "CIRCULAR_ALL_OF_SCHEMA null Cat",
+                "CIRCULAR_ALL_OF_SCHEMA null Dog",
+                "UNREACHABLE_COMPONENT null Orphan"
+        );
+    }
+
+    private Map<String, String> readZipEntries(byte[] zip) throws IOException {
+        Map<String, String> zipEntries = new LinkedHashMap<>();
+        @Cleanup var zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip));
+        ZipEntry zipEntry;
+        while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+            zipEntries.put(zipEntry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return zipEntries;
+    }
+
+    private OpenAPI readOpenApi(Resource resource) throws IOException {
+        @Cleanup var inputStream = resource.getInputStream();
+        return openApiObjectMapper.readValue(inputStream, OpenAPI.class);
     }
 }